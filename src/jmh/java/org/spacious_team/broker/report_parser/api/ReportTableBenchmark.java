@@ -0,0 +1,76 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link AbstractReportTable#parseTable()} and {@link InitializableReportTable#initializeIfNeed()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReportTableBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+    private BrokerReport report;
+    private SyntheticTransactionTable initializedTable;
+
+    @Setup
+    public void setup() {
+        report = new SyntheticReport(rows);
+        initializedTable = new SyntheticTransactionTable(report);
+        initializedTable.getData();
+    }
+
+    @Benchmark
+    public Collection<SecurityTransaction> parseTable() {
+        return new SyntheticTransactionTable(report).parseTable();
+    }
+
+    @Benchmark
+    public List<SecurityTransaction> initializeIfNeed() {
+        SyntheticTransactionTable table = new SyntheticTransactionTable(report);
+        table.initializeIfNeed();
+        return table.getData();
+    }
+
+    @Benchmark
+    public List<SecurityTransaction> initializeIfNeed_initialized() {
+        initializedTable.initializeIfNeed();
+        return initializedTable.getData();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.spacious_team.table_wrapper.api.ReportPage;
+import org.spacious_team.table_wrapper.api.Table;
+import org.spacious_team.table_wrapper.api.TableColumn;
+import org.spacious_team.table_wrapper.api.TableHeaderColumn;
+import org.spacious_team.table_wrapper.api.TableRow;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Broker report stand-in with single table of synthetic rows. Report page, table and table rows implement
+ * only methods used by report tables, other methods throw {@link UnsupportedOperationException}.
+ */
+final class SyntheticReport implements BrokerReport {
+    static final String TABLE_NAME = "Synthetic table";
+    private static final Object[] CURRENCIES = {"RUB", "USD", "EUR"};
+
+    private final ReportPage reportPage;
+
+    SyntheticReport(int rowCount) {
+        TableRow[] rows = new TableRow[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            Object[] values = {i, "ACCOUNT", BigDecimal.valueOf(i, 2), CURRENCIES[i % CURRENCIES.length]};
+            rows[i] = proxy(TableRow.class, (method, args) -> getRowMethod(method, args, values));
+        }
+        Table table = proxy(Table.class, (method, args) -> getTableMethod(method, args, Arrays.asList(rows)));
+        this.reportPage = proxy(ReportPage.class, (method, args) -> getReportPageMethod(method, table));
+    }
+
+    @Override
+    public ReportPage getReportPage() {
+        return reportPage;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticReport";
+    }
+
+    private static Object getRowMethod(Method method, Object[] args, Object[] values) {
+        switch (method.getName()) {
+            case "getCellValue":
+                return values[((Header) args[0]).ordinal()];
+            case "getRowNum":
+                return values[Header.ID.ordinal()];
+            default:
+                throw unsupported(method);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object getTableMethod(Method method, Object[] args, List<TableRow> rows) {
+        switch (method.getName()) {
+            case "getData": {
+                Function<TableRow, Object> rowExtractor = (Function<TableRow, Object>) args[1];
+                List<Object> data = new ArrayList<>(rows.size());
+                for (TableRow row : rows) {
+                    Object value = rowExtractor.apply(row);
+                    if (value != null) {
+                        data.add(value);
+                    }
+                }
+                return data;
+            }
+            case "getDataCollection": {
+                Function<TableRow, Collection<Object>> rowExtractor = (Function<TableRow, Collection<Object>>) args[1];
+                List<Object> data = new ArrayList<>(rows.size());
+                for (TableRow row : rows) {
+                    Collection<Object> values = rowExtractor.apply(row);
+                    if (values != null) {
+                        data.addAll(values);
+                    }
+                }
+                return data;
+            }
+            case "stream":
+                return rows.stream();
+            case "iterator":
+                return rows.iterator();
+            case "isEmpty":
+                return rows.isEmpty();
+            default:
+                throw unsupported(method);
+        }
+    }
+
+    private static Object getReportPageMethod(Method method, Table table) {
+        if (method.getName().equals("createTable") || method.getName().equals("createNamelessTable")) {
+            return table;
+        }
+        throw unsupported(method);
+    }
+
+    private static UnsupportedOperationException unsupported(Method method) {
+        return new UnsupportedOperationException("Method is not supported by stand-in: " + method.getName());
+    }
+
+    private static <T> T proxy(Class<T> type, MethodHandler handler) {
+        Object proxy = Proxy.newProxyInstance(SyntheticReport.class.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> (method.getDeclaringClass() == Object.class) ?
+                        getObjectMethod(method, args, self, type) :
+                        handler.invoke(method, args));
+        return type.cast(proxy);
+    }
+
+    private static Object getObjectMethod(Method method, Object[] args, Object self, Class<?> type) {
+        switch (method.getName()) {
+            case "equals":
+                return self == args[0];
+            case "hashCode":
+                return System.identityHashCode(self);
+            default:
+                return type.getSimpleName();
+        }
+    }
+
+    private interface MethodHandler {
+        Object invoke(Method method, Object[] args);
+    }
+
+
+    enum Header implements TableHeaderColumn {
+        ID, ACCOUNT, VALUE, CURRENCY;
+
+        @Override
+        @SuppressWarnings({"nullness", "ReturnOfNull", "ConstantConditions", "NullableProblems"})
+        public TableColumn getColumn() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.spacious_team.table_wrapper.api.TableRow;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.spacious_team.broker.report_parser.api.SyntheticReport.Header.ACCOUNT;
+import static org.spacious_team.broker.report_parser.api.SyntheticReport.Header.CURRENCY;
+import static org.spacious_team.broker.report_parser.api.SyntheticReport.Header.ID;
+import static org.spacious_team.broker.report_parser.api.SyntheticReport.Header.VALUE;
+
+class SyntheticTransactionTable extends AbstractReportTable<SecurityTransaction> {
+    private static final BigDecimal FEE = BigDecimal.valueOf(-1, 2);
+    private static final BigDecimal ACCRUED_INTEREST = BigDecimal.ZERO;
+
+    SyntheticTransactionTable(BrokerReport report) {
+        super(report, SyntheticReport.TABLE_NAME, null, SyntheticReport.Header.class);
+    }
+
+    @Override
+    @SuppressWarnings("nullness")
+    protected SecurityTransaction parseRow(TableRow row) {
+        int id = (Integer) row.getCellValue(ID);
+        String currency = (String) row.getCellValue(CURRENCY);
+        return SecurityTransaction.builder()
+                .id(id)
+                .tradeId(String.valueOf(id))
+                .account((String) row.getCellValue(ACCOUNT))
+                .security(1)
+                .timestamp(Instant.EPOCH.plusSeconds(id))
+                .count(1)
+                .value((BigDecimal) row.getCellValue(VALUE))
+                .accruedInterest(ACCRUED_INTEREST)
+                .fee(FEE)
+                .valueCurrency(currency)
+                .feeCurrency(currency)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Benchmarks {@link AbstractTransaction#getTransactionCashFlows()} and {@link AbstractTransaction#forEachCashFlow(CashFlowSink)}
+ * expansion of all transactions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TransactionCashFlowBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+    private List<SecurityTransaction> securityTransactions;
+    private List<ForeignExchangeTransaction> foreignExchangeTransactions;
+
+    @Setup
+    public void setup() {
+        securityTransactions = new SyntheticTransactionTable(new SyntheticReport(rows)).getData();
+        foreignExchangeTransactions = securityTransactions.stream()
+                .map(t -> ForeignExchangeTransaction.builder()
+                        .id(t.getId())
+                        .tradeId(t.getTradeId())
+                        .account(t.getAccount())
+                        .security(t.getSecurity())
+                        .timestamp(t.getTimestamp())
+                        .count(t.getCount())
+                        .value(t.getValue())
+                        .fee(t.getFee())
+                        .valueCurrency(t.getValueCurrency())
+                        .feeCurrency(t.getFeeCurrency())
+                        .build())
+                .collect(toList());
+    }
+
+    @Benchmark
+    public void getTransactionCashFlows_abstractTransaction(Blackhole blackhole) {
+        for (AbstractTransaction transaction : foreignExchangeTransactions) {
+            blackhole.consume(transaction.getTransactionCashFlows());
+        }
+    }
+
+    @Benchmark
+    public void getTransactionCashFlows_securityTransaction(Blackhole blackhole) {
+        for (AbstractTransaction transaction : securityTransactions) {
+            blackhole.consume(transaction.getTransactionCashFlows());
+        }
+    }
+
+    @Benchmark
+    public void forEachCashFlow_securityTransaction(Blackhole blackhole) {
+        CashFlowSink sink = (transactionId, type, value, currency) -> blackhole.consume(value);
+        for (AbstractTransaction transaction : securityTransactions) {
+            transaction.forEachCashFlow(sink);
+        }
+    }
+}
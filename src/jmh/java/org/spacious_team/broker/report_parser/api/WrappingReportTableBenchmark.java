@@ -0,0 +1,70 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WrappingReportTable#getData()} of two already parsed tables with {@code rows / 2} rows each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class WrappingReportTableBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+    private BrokerReport report;
+    private ReportTable<SecurityTransaction> table1;
+    private ReportTable<SecurityTransaction> table2;
+
+    @Setup
+    public void setup() {
+        report = new SyntheticReport(rows / 2);
+        table1 = new SyntheticTransactionTable(report);
+        table2 = new SyntheticTransactionTable(report);
+        table1.getData();
+        table2.getData();
+    }
+
+    @Benchmark
+    public List<SecurityTransaction> getData_tables() {
+        return WrappingReportTable.of(table1, table2).getData();
+    }
+
+    @Benchmark
+    public List<SecurityTransaction> getData_collections() {
+        return WrappingReportTable.of(report, table1.getData(), table2.getData()).getData();
+    }
+}
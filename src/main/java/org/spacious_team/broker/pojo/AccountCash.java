@@ -63,9 +63,27 @@ public class AccountCash {
     @Schema(description = "Currency", example = "RUB", requiredMode = REQUIRED)
     private final @NotEmpty String currency;
 
+    // stripped values for equals and hashCode, "$" prefixed fields are ignored by lombok
+    private final @Nullable BigDecimal $valueForEquals;
+
+    AccountCash(@Nullable Integer id,
+                String account,
+                Instant timestamp,
+                String market,
+                BigDecimal value,
+                String currency) {
+        this.id = id;
+        this.account = account;
+        this.timestamp = timestamp;
+        this.market = market;
+        this.value = value;
+        this.currency = currency;
+        this.$valueForEquals = (value == null) ? null : value.stripTrailingZeros();
+    }
+
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getValueForEquals() {
-        return (value == null) ? null : value.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getValueForEquals() {
+        return $valueForEquals;
     }
 }
@@ -20,6 +20,9 @@ package org.spacious_team.broker.pojo;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
 
 @RequiredArgsConstructor
 public enum CashFlowType {
@@ -38,15 +41,26 @@ public enum CashFlowType {
     DERIVATIVE_PRICE(12), // Стоимость сделки с деривативом, валюта (RUB, USD или др.)
     DERIVATIVE_QUOTE(13); // Стоимость сделки с деривативом, пункты
 
+    private static final @Nullable CashFlowType[] valuesById = createValuesById();
+
     @Getter
     private final int id;
 
     public static CashFlowType valueOf(int type) {
-        for (CashFlowType e : values()) {
-            if (e.getId() == type) {
-                return e;
-            }
+        @Nullable CashFlowType value = (type >= 0 && type < valuesById.length) ? valuesById[type] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("Invalid cash flow event type: " + type);
+        }
+        return value;
+    }
+
+    private static @Nullable CashFlowType[] createValuesById() {
+        CashFlowType[] values = values();
+        int maxId = Arrays.stream(values).mapToInt(CashFlowType::getId).max().orElse(-1);
+        @Nullable CashFlowType[] valuesById = new CashFlowType[maxId + 1];
+        for (CashFlowType value : values) {
+            valuesById[value.id] = value;
         }
-        throw new IllegalArgumentException("Invalid cash flow event type: " + type);
+        return valuesById;
     }
 }
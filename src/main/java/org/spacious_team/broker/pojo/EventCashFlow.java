@@ -30,6 +30,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -70,6 +71,26 @@ public class EventCashFlow {
     @Schema(description = "Description", example = "Deposit", nullable = true)
     private final @Nullable String description;
 
+    // stripped values for equals and hashCode, "$" prefixed fields are ignored by lombok
+    private final @Nullable BigDecimal $valueForEquals;
+
+    EventCashFlow(@Nullable Integer id,
+                  String account,
+                  Instant timestamp,
+                  CashFlowType eventType,
+                  BigDecimal value,
+                  String currency,
+                  @Nullable String description) {
+        this.id = id;
+        this.account = account;
+        this.timestamp = timestamp;
+        this.eventType = eventType;
+        this.value = value;
+        this.currency = currency;
+        this.description = description;
+        this.$valueForEquals = (value == null) ? null : value.stripTrailingZeros();
+    }
+
     /**
      * Checks DB unique index constraint
      */
@@ -85,6 +106,19 @@ public class EventCashFlow {
                 ((value1 == value2) || (value1.compareTo(value2) == 0));
     }
 
+    /**
+     * Returns key, which is equal for objects with equals by {@link #checkEquality(EventCashFlow, EventCashFlow)}
+     */
+    @SuppressWarnings("unused")
+    public static Object getDuplicateKey(EventCashFlow cash) {
+        return Arrays.asList(
+                cash.getEventType(),
+                cash.getTimestamp(),
+                cash.getAccount(),
+                cash.getCurrency(),
+                cash.$valueForEquals);
+    }
+
     /**
      * Merge information of two objects with equals by {@link #checkEquality(EventCashFlow, EventCashFlow)}
      */
@@ -101,8 +135,8 @@ public class EventCashFlow {
     }
 
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getValueForEquals() {
-        return (value == null) ? null : value.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getValueForEquals() {
+        return $valueForEquals;
     }
 }
@@ -26,6 +26,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.jackson.Jacksonized;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -52,9 +53,21 @@ public class ForeignExchangeRate {
     @Schema(description = "Currency exchange rate", example = "75.67", requiredMode = REQUIRED)
     private final BigDecimal rate;
 
+    // stripped values for equals and hashCode, "$" prefixed fields are ignored by lombok
+    private final @Nullable BigDecimal $rateForEquals;
+
+    ForeignExchangeRate(LocalDate date,
+                        String currencyPair,
+                        BigDecimal rate) {
+        this.date = date;
+        this.currencyPair = currencyPair;
+        this.rate = rate;
+        this.$rateForEquals = (rate == null) ? null : rate.stripTrailingZeros();
+    }
+
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getRateForEquals() {
-        return (rate == null) ? null : rate.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getRateForEquals() {
+        return $rateForEquals;
     }
 }
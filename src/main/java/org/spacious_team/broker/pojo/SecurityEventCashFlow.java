@@ -30,6 +30,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 
@@ -72,6 +73,28 @@ public class SecurityEventCashFlow {
     @Schema(description = "Currency", example = "RUB", defaultValue = "RUB", nullable = true)
     private final String currency = "RUR";
 
+    // stripped values for equals and hashCode, "$" prefixed fields are ignored by lombok
+    private final @Nullable BigDecimal $valueForEquals;
+
+    SecurityEventCashFlow(@Nullable Integer id,
+                          String account,
+                          Instant timestamp,
+                          int security,
+                          Integer count,
+                          CashFlowType eventType,
+                          BigDecimal value,
+                          String currency) {
+        this.id = id;
+        this.account = account;
+        this.timestamp = timestamp;
+        this.security = security;
+        this.count = count;
+        this.eventType = eventType;
+        this.value = value;
+        this.currency = currency;
+        this.$valueForEquals = (value == null) ? null : value.stripTrailingZeros();
+    }
+
     /**
      * Checks DB unique index constraint
      */
@@ -83,6 +106,18 @@ public class SecurityEventCashFlow {
                 Objects.equals(cash1.getAccount(), cash2.getAccount());
     }
 
+    /**
+     * Returns key, which is equal for objects with equals by {@link #checkEquality(SecurityEventCashFlow, SecurityEventCashFlow)}
+     */
+    @SuppressWarnings("unused")
+    public static Object getDuplicateKey(SecurityEventCashFlow cash) {
+        return Arrays.asList(
+                cash.getSecurity(),
+                cash.getEventType(),
+                cash.getTimestamp(),
+                cash.getAccount());
+    }
+
     /**
      * Merge information of two objects with equals by {@link #checkEquality(SecurityEventCashFlow, SecurityEventCashFlow)}
      */
@@ -101,8 +136,8 @@ public class SecurityEventCashFlow {
     }
 
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getValueForEquals() {
-        return (value == null) ? null : value.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getValueForEquals() {
+        return $valueForEquals;
     }
 }
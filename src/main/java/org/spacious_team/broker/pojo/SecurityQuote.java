@@ -70,6 +70,30 @@ public class SecurityQuote {
             example = "RUB", nullable = true)
     private final @Nullable String currency;
 
+    // stripped values for equals and hashCode, "$" prefixed fields are ignored by lombok
+    private final @Nullable BigDecimal $quoteForEquals;
+    private final @Nullable BigDecimal $priceForEquals;
+    private final @Nullable BigDecimal $accruedInterestForEquals;
+
+    SecurityQuote(@Nullable Integer id,
+                  int security,
+                  Instant timestamp,
+                  BigDecimal quote,
+                  @Nullable BigDecimal price,
+                  @Nullable BigDecimal accruedInterest,
+                  @Nullable String currency) {
+        this.id = id;
+        this.security = security;
+        this.timestamp = timestamp;
+        this.quote = quote;
+        this.price = price;
+        this.accruedInterest = accruedInterest;
+        this.currency = currency;
+        this.$quoteForEquals = (quote == null) ? null : quote.stripTrailingZeros();
+        this.$priceForEquals = (price == null) ? null : price.stripTrailingZeros();
+        this.$accruedInterestForEquals = (accruedInterest == null) ? null : accruedInterest.stripTrailingZeros();
+    }
+
     /**
      * Returns price in currency, bond price accounted without accrued interest. May be null if unknown.
      */
@@ -97,20 +121,20 @@ public class SecurityQuote {
     }
 
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getQuoteForEquals() {
-        return (quote == null) ? null : quote.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getQuoteForEquals() {
+        return $quoteForEquals;
     }
 
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getPriceForEquals() {
-        return (price == null) ? null : price.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getPriceForEquals() {
+        return $priceForEquals;
     }
 
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getAccruedInterestForEquals() {
-        return (accruedInterest == null) ? null : accruedInterest.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getAccruedInterestForEquals() {
+        return $accruedInterestForEquals;
     }
 }
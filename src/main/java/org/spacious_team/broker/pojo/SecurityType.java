@@ -20,6 +20,13 @@ package org.spacious_team.broker.pojo;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toUnmodifiableMap;
 
 @RequiredArgsConstructor
 @SuppressWarnings("unused")
@@ -32,9 +39,23 @@ public enum SecurityType {
     CURRENCY_PAIR("currency pair"),
     ASSET("asset");
 
+    private static final Map<String, SecurityType> valuesByDescription = Arrays.stream(values())
+            .collect(toUnmodifiableMap(SecurityType::getDescription, identity()));
+
     @Getter
     private final String description;
 
+    /**
+     * @throws IllegalArgumentException if description is unknown
+     */
+    public static SecurityType valueOfDescription(String description) {
+        @Nullable SecurityType value = valuesByDescription.get(description);
+        if (value == null) {
+            throw new IllegalArgumentException("Invalid security type description: " + description);
+        }
+        return value;
+    }
+
     /**
      * Returns currency pairs, for example USDRUB, EURRUB
      */
@@ -60,9 +60,25 @@ public class TransactionCashFlow {
     @Schema(description = "Currency", example = "RUB", defaultValue = "RUB", nullable = true)
     private final String currency = "RUB";
 
+    // stripped values for equals and hashCode, "$" prefixed fields are ignored by lombok
+    private final @Nullable BigDecimal $valueForEquals;
+
+    TransactionCashFlow(@Nullable Integer id,
+                        int transactionId,
+                        CashFlowType eventType,
+                        BigDecimal value,
+                        String currency) {
+        this.id = id;
+        this.transactionId = transactionId;
+        this.eventType = eventType;
+        this.value = value;
+        this.currency = currency;
+        this.$valueForEquals = (value == null) ? null : value.stripTrailingZeros();
+    }
+
     @EqualsAndHashCode.Include
-    @SuppressWarnings({"nullness", "ConstantConditions", "ReturnOfNull", "unused"})
-    private BigDecimal getValueForEquals() {
-        return (value == null) ? null : value.stripTrailingZeros();
+    @SuppressWarnings("unused")
+    private @Nullable BigDecimal getValueForEquals() {
+        return $valueForEquals;
     }
 }
@@ -18,9 +18,11 @@
 
 package org.spacious_team.broker.report_parser.api;
 
+import lombok.Getter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -38,7 +40,9 @@ public abstract class AbstractBrokerReportFactory implements BrokerReportFactory
 
     /**
      * Checks input stream and returns broker report if it's possible.
-     * Resets input stream to marked position.
+     * Resets input stream to marked position. Use {@link ByteBufferInputStream} to avoid copying
+     * the whole report to heap by {@code mark(Integer.MAX_VALUE)}.
+     * Creation attempt is recorded by JDK Flight Recorder, if recording is on.
      *
      * @return broker report if parse is possible
      * @throws IllegalArgumentException   if InputStream does not support mark
@@ -51,18 +55,41 @@ public abstract class AbstractBrokerReportFactory implements BrokerReportFactory
             throw new IllegalArgumentException("Provided input stream doesn't supports mark");
         }
         is = new CloseIgnoringInputStream(is); // do not close stream
+        BrokerReportCreationEvent event = new BrokerReportCreationEvent();
+        @Nullable ByteCountingInputStream countingInputStream = null;
+        if (event.isEnabled()) {
+            countingInputStream = new ByteCountingInputStream(is);
+            is = countingInputStream;
+        }
         is.mark(Integer.MAX_VALUE);
+        event.begin();
         @Nullable Exception exception = null;
+        boolean isSuccessful = false;  // error is not caught, but report creation should not be reported as successful
         try {
-            return Optional.of(brokerReportProvider.apply(fileName, is));
+            BrokerReport report = brokerReportProvider.apply(fileName, is);
+            isSuccessful = true;
+            return Optional.of(report);
         } catch (Exception e) {
             exception = e;
             return Optional.empty();
         } finally {
+            commit(event, fileName, isSuccessful, countingInputStream);
             resetInputStream(is, exception);
         }
     }
 
+    private void commit(BrokerReportCreationEvent event, String fileName, boolean isSuccessful,
+                        @Nullable ByteCountingInputStream countingInputStream) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.factory = getClass();
+            event.fileName = fileName;
+            event.success = isSuccessful;
+            event.bytesConsumed = (countingInputStream == null) ? 0 : countingInputStream.getCount();
+            event.commit();
+        }
+    }
+
     private static void resetInputStream(InputStream is, @Nullable Exception exception) {
         try {
             is.reset();
@@ -74,6 +101,56 @@ public abstract class AbstractBrokerReportFactory implements BrokerReportFactory
         }
     }
 
+    /**
+     * Counts bytes read and skipped, {@link #reset()} restores count of marked position
+     */
+    private static class ByteCountingInputStream extends FilterInputStream {
+        @Getter
+        private long count = 0;
+        private long markedCount = 0;
+
+        private ByteCountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            super.mark(readLimit);
+            markedCount = count;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            super.reset();
+            count = markedCount;
+        }
+    }
+
     private static class CloseIgnoringInputStream extends FilterInputStream {
         public CloseIgnoringInputStream(InputStream in) {
             super(in);
@@ -27,10 +27,23 @@ import org.spacious_team.table_wrapper.api.Table;
 import org.spacious_team.table_wrapper.api.TableHeaderColumn;
 import org.spacious_team.table_wrapper.api.TableRow;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
@@ -44,6 +57,17 @@ import static org.spacious_team.table_wrapper.api.StringPrefixPredicate.ignoreCa
 @SuppressWarnings("unused")
 public abstract class AbstractReportTable<R> extends InitializableReportTable<R> {
 
+    private static final ClassValue<Boolean> isRowStreamingSupported = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !isDeclaredByAnySubclass(type, "parseTable") &&
+                    !isDeclaredByAnySubclass(type, "parseTable", Table.class) &&
+                    !isDeclaredByAnySubclass(type, "getDuplicateKeyExtractor") &&
+                    !isDeclaredByAnySubclass(type, "checkEquality", Object.class, Object.class) &&
+                    !isDeclaredByAnySubclass(type, "mergeDuplicates", Object.class, Object.class);
+        }
+    };
+
     private @MonotonicNonNull String tableName;
     private final Predicate<@Nullable Object> tableNameFinder;
     private final int tableNameRowCount;  // 0 for CreateMode.NAMELESS_TABLE_BY_PREDICATE
@@ -297,11 +321,39 @@ public abstract class AbstractReportTable<R> extends InitializableReportTable<R>
             Table table = createTable(reportPage);
             return parseTable(table);
         } catch (Exception e) {
-            String displayTableName = (tableName == null) ? " " : " '" + tableName + "' ";
-            throw new BrokerReportParseException("Can't parse table" + displayTableName + "in report " + getReport(), e);
+            throw new BrokerReportParseException(getParseErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Parses rows by {@link #parseRowToCollection(TableRow)} during stream consumption. Rows which can't be parsed
+     * are skipped as by {@link Table#getDataCollection}, other exceptions thrown during stream consumption are
+     * wrapped by {@link BrokerReportParseException}. Rows are not checked
+     * for duplicates, so if one of {@link #parseTable()}, {@link #parseTable(Table)}, {@link #getDuplicateKeyExtractor()},
+     * {@link #checkEquality(Object, Object)} or {@link #mergeDuplicates(Object, Object)} methods is overridden,
+     * rows are parsed by {@link #parseTable()}.
+     */
+    @Override
+    protected Stream<R> streamTable() {
+        if (!isRowStreamingSupported.get(getClass())) {
+            return super.streamTable();
+        }
+        try {
+            ReportPage reportPage = getReport().getReportPage();
+            Table table = createTable(reportPage);
+            Stream<R> rows = streamTable(table);
+            return StreamSupport.stream(new ParseExceptionWrappingSpliterator(rows.spliterator()), false)
+                    .onClose(rows::close);
+        } catch (Exception e) {
+            throw new BrokerReportParseException(getParseErrorMessage(), e);
         }
     }
 
+    private String getParseErrorMessage() {
+        String displayTableName = (tableName == null) ? " " : " '" + tableName + "' ";
+        return "Can't parse table" + displayTableName + "in report " + getReport();
+    }
+
     private <T extends Enum<T> & TableHeaderColumn>
     Table createTable(ReportPage reportPage) {
         @SuppressWarnings("unchecked")
@@ -328,7 +380,78 @@ public abstract class AbstractReportTable<R> extends InitializableReportTable<R>
 
     @DefaultQualifier(NonNull.class)  // checkerframework bug fix
     protected Collection<R> parseTable(Table table) {
-        return table.getDataCollection(getReport(), this::parseRowToCollection, this::checkEquality, this::mergeDuplicates);
+        @Nullable Function<R, ?> duplicateKeyExtractor = getDuplicateKeyExtractor();
+        if (duplicateKeyExtractor == null) {
+            @Nullable ParseMetricsRecorder recorder = ParseMetricsRecorder.current(this);
+            if (recorder == null) {
+                return table.getDataCollection(getReport(), this::parseRowToCollection, this::checkEquality, this::mergeDuplicates);
+            }
+            return table.getDataCollection(getReport(),
+                    row -> {
+                        @Nullable Collection<R> data = parseRowToCollection(row);
+                        return recorder.countDropped((data == null) ? emptyList() : data);
+                    },
+                    this::checkEquality,
+                    (oldObject, newObject) -> recorder.countMerged(mergeDuplicates(oldObject, newObject)));
+        }
+        return mergeDuplicates(streamTable(table), duplicateKeyExtractor);
+    }
+
+    /**
+     * Merges rows with equal keys by {@link #mergeDuplicates(Object, Object)}.
+     * As by {@link Table#getDataCollection}, the first row with the same key is removed
+     * and merged rows are appended to the end.
+     */
+    private Collection<R> mergeDuplicates(Stream<R> rows, Function<R, ?> duplicateKeyExtractor) {
+        @Nullable ParseMetricsRecorder recorder = ParseMetricsRecorder.current(this);
+        Map<Object, R> result = new LinkedHashMap<>();
+        Map<@Nullable Object, Deque<Map.Entry<Object, R>>> positionsByKey = new HashMap<>();
+        Function<R, Deque<Map.Entry<Object, R>>> positionsGetter = row ->
+                positionsByKey.computeIfAbsent(duplicateKeyExtractor.apply(row), key -> new ArrayDeque<>(1));
+        Consumer<R> adder = row -> {
+            Object position = new Object();
+            result.put(position, row);
+            positionsGetter.apply(row).addLast(new SimpleImmutableEntry<>(position, row));
+        };
+        rows.forEach(row -> {
+            Deque<Map.Entry<Object, R>> positions = positionsGetter.apply(row);
+            if (positions.isEmpty()) {
+                adder.accept(row);
+            } else {
+                Map.Entry<Object, R> oldRow = positions.removeFirst();
+                result.remove(oldRow.getKey());
+                Collection<R> mergedRows = mergeDuplicates(oldRow.getValue(), row);
+                if (recorder != null) {
+                    recorder.countMerged(mergedRows);
+                }
+                mergedRows.forEach(adder);
+            }
+        });
+        return new ArrayList<>(result.values());
+    }
+
+    @DefaultQualifier(NonNull.class)  // checkerframework bug fix
+    protected Stream<R> streamTable(Table table) {
+        @Nullable ParseMetricsRecorder recorder = ParseMetricsRecorder.current(this);
+        Function<TableRow, Collection<R>> rowParser = (recorder == null) ?
+                this::parseRowOrSkip :
+                row -> recorder.countDropped(parseRowOrSkip(row));
+        return table.stream()
+                .filter(Objects::nonNull)
+                .map(rowParser)
+                .flatMap(Collection::stream);
+    }
+
+    /**
+     * Returns no data for row which can't be parsed, as {@link Table#getDataCollection} does
+     */
+    private Collection<R> parseRowOrSkip(TableRow row) {
+        try {
+            @Nullable Collection<R> data = parseRowToCollection(row);
+            return (data == null) ? emptyList() : data;
+        } catch (Exception e) {
+            return emptyList();
+        }
     }
 
     protected Collection<R> parseRowToCollection(TableRow row) {
@@ -340,6 +463,17 @@ public abstract class AbstractReportTable<R> extends InitializableReportTable<R>
         return null;
     }
 
+    /**
+     * Override to check rows for duplicates by hash-based key comparison instead of comparing each row
+     * with all previous rows by {@link #checkEquality(Object, Object)}.
+     * Rows with equal keys are merged by {@link #mergeDuplicates(Object, Object)}.
+     *
+     * @return row key extractor or null if rows are checked for duplicates by {@link #checkEquality(Object, Object)}
+     */
+    protected @Nullable Function<R, ?> getDuplicateKeyExtractor() {
+        return null;
+    }
+
     protected boolean checkEquality(R object1, R object2) {
         return Objects.equals(object1, object2);
     }
@@ -358,6 +492,51 @@ public abstract class AbstractReportTable<R> extends InitializableReportTable<R>
         }
     }
 
+    private static boolean isDeclaredByAnySubclass(Class<?> type, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> c = type; c != AbstractReportTable.class && c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignore) {
+                // check superclass
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Wraps exceptions of source stream by {@link BrokerReportParseException}, stream consumer exceptions
+     * are not wrapped
+     */
+    private class ParseExceptionWrappingSpliterator extends Spliterators.AbstractSpliterator<R> {
+        private final Spliterator<R> rows;
+        private boolean isConsumerCalled = false;
+
+        private ParseExceptionWrappingSpliterator(Spliterator<R> rows) {
+            super(rows.estimateSize(), rows.characteristics());
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            try {
+                return rows.tryAdvance(row -> {
+                    isConsumerCalled = true;
+                    action.accept(row);
+                    isConsumerCalled = false;
+                });
+            } catch (BrokerReportParseException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                if (isConsumerCalled) {
+                    isConsumerCalled = false;
+                    throw e;
+                }
+                throw new BrokerReportParseException(getParseErrorMessage(), e);
+            }
+        }
+    }
+
     private enum CreateMode {
         TABLE_BY_PREDICATE,
         NAMELESS_TABLE_BY_PREDICATE
@@ -19,16 +19,73 @@
 package org.spacious_team.broker.report_parser.api;
 
 import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 public abstract class AbstractReportTables<T extends BrokerReport> implements ReportTables {
 
     @Getter
     protected final T report;
     private final EmptyReportTable<?> emptyReportTable;
+    private final List<AbstractReportTable<?>> registeredTables = new CopyOnWriteArrayList<>();
+    private final @Nullable ReportTableMetricsListener metricsListener;  // global listener is used if null
 
     protected AbstractReportTables(T report) {
         this.report = report;
         this.emptyReportTable = EmptyReportTable.of(report);
+        this.metricsListener = null;
+    }
+
+    /**
+     * @param metricsListener receives metrics of {@link #register(AbstractReportTable) registered} tables
+     *                        instead of global {@link ReportTableMetricsListener}
+     */
+    protected AbstractReportTables(T report, ReportTableMetricsListener metricsListener) {
+        this.report = report;
+        this.emptyReportTable = EmptyReportTable.of(report);
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Registers table to be parsed by {@link #initializeTablesAsync()}. Metrics of registered table are reported
+     * to listener of this report tables, if it is provided by constructor.
+     *
+     * @throws IllegalArgumentException if table is built for another broker report
+     */
+    @SuppressWarnings("unused")
+    protected <R extends AbstractReportTable<?>> R register(R table) {
+        if (table.getReport() != report) {
+            throw new IllegalArgumentException("Report table should be built for same broker report");
+        }
+        @Nullable ReportTableMetricsListener listener = metricsListener;
+        if (listener != null) {
+            table.setMetricsListener(listener);
+        }
+        registeredTables.add(table);
+        return table;
+    }
+
+    /**
+     * Starts parsing of all {@link #register(AbstractReportTable) registered} tables concurrently
+     * by virtual threads (if supported by JVM) or by common fork-join pool.
+     * Call it at the end of subclass constructor to parse tables eagerly.
+     */
+    @SuppressWarnings("unused")
+    protected void initializeTablesAsync() {
+        initializeTablesAsync(DefaultExecutor.get());
+    }
+
+    /**
+     * Starts parsing of all {@link #register(AbstractReportTable) registered} tables concurrently by executor.
+     * {@link ReportTable#getData()} waits for table parsing completion.
+     */
+    protected void initializeTablesAsync(Executor executor) {
+        for (AbstractReportTable<?> table : registeredTables) {
+            table.initializeAsync(executor);
+        }
     }
 
     @SuppressWarnings({"unchecked", "unused"})
@@ -32,6 +32,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.spacious_team.broker.pojo.CashFlowType.FEE;
 import static org.spacious_team.broker.pojo.CashFlowType.PRICE;
@@ -41,6 +42,21 @@ import static org.spacious_team.broker.pojo.CashFlowType.PRICE;
 @EqualsAndHashCode
 @SuperBuilder(toBuilder = true)
 public abstract class AbstractTransaction {
+    protected static final int DEFAULT_ZERO_THRESHOLD_SCALE = 6;
+    private static final ClassValue<Boolean> isTransactionCashFlowsOverridden = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isDeclaredByAnySubclass(type, AbstractTransaction.class, "getTransactionCashFlows");
+        }
+    };
+    private static final ClassValue<Boolean> isCashFlowHookOverridden = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isDeclaredByAnySubclass(type, AbstractTransaction.class, "getValueCashFlow", CashFlowType.class) ||
+                    isDeclaredByAnySubclass(type, AbstractTransaction.class, "getFeeCashFlow") ||
+                    isDeclaredByAnySubclass(type, DerivativeTransaction.class, "getValueInPointsCashFlow");
+        }
+    };
     protected final Integer id;
     protected final String tradeId;
     protected final String account;
@@ -53,7 +69,24 @@ public abstract class AbstractTransaction {
     protected final @Nullable BigDecimal fee;
     protected final @Nullable String valueCurrency; // валюта платежа. Обязателен, если заполнен value
     protected final @Nullable String feeCurrency; // валюта комиссии. Обязателен, если заполнен fee
+    // stripped values for equals and hashCode, "$" prefixed fields are ignored by lombok
+    private final @Nullable BigDecimal $valueForEquals;
+    private final @Nullable BigDecimal $feeForEquals;
 
+    protected AbstractTransaction(AbstractTransactionBuilder<?, ?> b) {
+        this.id = b.id;
+        this.tradeId = b.tradeId;
+        this.account = b.account;
+        this.security = b.security;
+        this.timestamp = b.timestamp;
+        this.count = b.count;
+        this.value = b.value;
+        this.fee = b.fee;
+        this.valueCurrency = b.valueCurrency;
+        this.feeCurrency = b.feeCurrency;
+        this.$valueForEquals = (value == null) ? null : value.stripTrailingZeros();
+        this.$feeForEquals = (fee == null) ? null : fee.stripTrailingZeros();
+    }
 
     @SuppressWarnings("unused")
     public Transaction getTransaction() {
@@ -69,50 +102,162 @@ public abstract class AbstractTransaction {
 
     @SuppressWarnings("unused")
     public List<TransactionCashFlow> getTransactionCashFlows() {
-        List<TransactionCashFlow> list = new ArrayList<>(2);
-        getValueCashFlow(PRICE).ifPresent(list::add);
-        getFeeCashFlow().ifPresent(list::add);
+        List<TransactionCashFlow> list = new ArrayList<>(3);
+        acceptCashFlows((transactionId, type, value, currency) ->
+                list.add(toCashFlow(transactionId, type, value, currency)));
         return list;
     }
 
-    protected Optional<TransactionCashFlow> getValueCashFlow(CashFlowType type) {
+    /**
+     * Passes transaction cash flows to sink in {@link #getTransactionCashFlows()} order without intermediate objects.
+     * If {@link #getTransactionCashFlows()} is overridden by subclass, its cash flows are passed.
+     */
+    public void forEachCashFlow(CashFlowSink sink) {
+        if (isTransactionCashFlowsOverridden.get(getClass())) {
+            for (TransactionCashFlow cashFlow : getTransactionCashFlows()) {
+                accept(cashFlow, sink);
+            }
+        } else {
+            acceptCashFlows(sink);
+        }
+    }
+
+    /**
+     * Override to change transaction cash flows.
+     */
+    protected void acceptCashFlows(CashFlowSink sink) {
+        acceptValueCashFlowOrHook(PRICE, sink);
+        acceptFeeCashFlowOrHook(sink);
+    }
+
+    /**
+     * Passes cash flow of deprecated {@link #getValueCashFlow(CashFlowType)}, if it is overridden by subclass,
+     * or calls {@link #acceptValueCashFlow(CashFlowType, CashFlowSink)} otherwise
+     */
+    final void acceptValueCashFlowOrHook(CashFlowType type, CashFlowSink sink) {
+        if (isCashFlowHookOverridden()) {
+            getValueCashFlow(type).ifPresent(cashFlow -> accept(cashFlow, sink));
+        } else {
+            acceptValueCashFlow(type, sink);
+        }
+    }
+
+    /**
+     * Passes cash flow of deprecated {@link #getFeeCashFlow()}, if it is overridden by subclass,
+     * or calls {@link #acceptFeeCashFlow(CashFlowSink)} otherwise
+     */
+    final void acceptFeeCashFlowOrHook(CashFlowSink sink) {
+        if (isCashFlowHookOverridden()) {
+            getFeeCashFlow().ifPresent(cashFlow -> accept(cashFlow, sink));
+        } else {
+            acceptFeeCashFlow(sink);
+        }
+    }
+
+    /**
+     * @return true if one of deprecated {@code get*CashFlow} methods is overridden by subclass
+     */
+    final boolean isCashFlowHookOverridden() {
+        return isCashFlowHookOverridden.get(getClass());
+    }
+
+    protected void acceptValueCashFlow(CashFlowType type, CashFlowSink sink) {
         if (value != null && valueCurrency != null && isNotZero(value)) {
-        return Optional.of(TransactionCashFlow.builder()
-                .transactionId(id)
-                .eventType(type)
-                .value(value)
-                .currency(valueCurrency)
-                .build());
+            sink.accept(id, type, value, valueCurrency);
         }
-        return Optional.empty();
     }
 
-    protected Optional<TransactionCashFlow> getFeeCashFlow() {
+    protected void acceptFeeCashFlow(CashFlowSink sink) {
         if (fee != null && feeCurrency != null && isNotZero(fee)) {
-            return Optional.of(TransactionCashFlow.builder()
-                    .transactionId(id)
-                    .eventType(FEE)
-                    .value(fee)
-                    .currency(feeCurrency)
-                    .build());
+            sink.accept(id, FEE, fee, feeCurrency);
         }
-        return Optional.empty();
     }
 
+    /**
+     * @deprecated use {@link #acceptValueCashFlow(CashFlowType, CashFlowSink)}, this method is called by the class
+     * instead of it only if overridden
+     */
+    @Deprecated
+    protected Optional<TransactionCashFlow> getValueCashFlow(CashFlowType type) {
+        return getCashFlow(sink -> acceptValueCashFlow(type, sink));
+    }
+
+    /**
+     * @deprecated use {@link #acceptFeeCashFlow(CashFlowSink)}, this method is called by the class
+     * instead of it only if overridden
+     */
+    @Deprecated
+    protected Optional<TransactionCashFlow> getFeeCashFlow() {
+        return getCashFlow(this::acceptFeeCashFlow);
+    }
+
+    static Optional<TransactionCashFlow> getCashFlow(Consumer<CashFlowSink> cashFlowAcceptor) {
+        List<TransactionCashFlow> list = new ArrayList<>(1);
+        cashFlowAcceptor.accept((transactionId, type, value, currency) ->
+                list.add(toCashFlow(transactionId, type, value, currency)));
+        return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
+    }
+
+    static void accept(TransactionCashFlow cashFlow, CashFlowSink sink) {
+        sink.accept(cashFlow.getTransactionId(), cashFlow.getEventType(), cashFlow.getValue(), cashFlow.getCurrency());
+    }
+
+    private static TransactionCashFlow toCashFlow(int transactionId, CashFlowType type, BigDecimal value, String currency) {
+        return TransactionCashFlow.builder()
+                .transactionId(transactionId)
+                .eventType(type)
+                .value(value)
+                .currency(currency)
+                .build();
+    }
+
+    /**
+     * @return true if value absolute value is not less than {@code 10^-}{@link #getZeroThresholdScale()}
+     */
     protected boolean isNotZero(BigDecimal value) {
-        return Math.abs(value.floatValue()) > 0.000_000_99f;
+        return isNotZero(value, getZeroThresholdScale());
+    }
+
+    /**
+     * Override to change zero detection epsilon, which is {@code 10^-scale}. Default epsilon is {@code 0.000_001}.
+     */
+    protected int getZeroThresholdScale() {
+        return DEFAULT_ZERO_THRESHOLD_SCALE;
+    }
+
+    /**
+     * Compares value with {@code 10^-scale} epsilon without value conversion.
+     * For non-zero value {@code 10^(precision - scale - 1) <= |value| < 10^(precision - scale)}.
+     *
+     * @return true if value absolute value is not less than {@code 10^-zeroThresholdScale}
+     */
+    static boolean isNotZero(BigDecimal value, int zeroThresholdScale) {
+        return value.signum() != 0 && value.precision() - value.scale() > -zeroThresholdScale;
+    }
+
+    private static boolean isDeclaredByAnySubclass(Class<?> type, Class<?> baseClass,
+                                                   String methodName, Class<?>... parameterTypes) {
+        for (Class<?> c = type; c != baseClass && c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignore) {
+                // check superclass
+            }
+        }
+        return false;
     }
 
     @EqualsAndHashCode.Include
     @SuppressWarnings("unused")
-    private  @Nullable BigDecimal getValueForEquals() {
-        return (value == null) ? null : value.stripTrailingZeros();
+    private @Nullable BigDecimal getValueForEquals() {
+        return $valueForEquals;
     }
 
     @EqualsAndHashCode.Include
     @SuppressWarnings("unused")
     private @Nullable BigDecimal getFeeForEquals() {
-        return (fee == null) ? null : fee.stripTrailingZeros();
+        return $feeForEquals;
     }
 
     public abstract AbstractTransactionBuilder<? extends AbstractTransaction, ? extends AbstractTransactionBuilder<?, ?>> toBuilder();
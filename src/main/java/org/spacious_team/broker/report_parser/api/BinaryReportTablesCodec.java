@@ -0,0 +1,82 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Stores report tables in compact binary format. Format is versioned, snapshot of other version is not read.
+ * <p>
+ * Snapshot starts with header: magic bytes {@code BRPS}, format version, dictionary of all strings and byte length
+ * of each table. Tables follow header in {@link ReportTables} getters order, table is row count followed by rows.
+ * Integers are encoded as unsigned LEB128 varints (signed values are zigzag encoded), timestamps as epoch second
+ * and nanos, dates as epoch day, decimals as scale and unscaled long value (or big integer bytes if value doesn't fit
+ * long), strings as dictionary code.
+ * Nullable values take no additional byte, 0 code means null.
+ * <p>
+ * Tables are decoded lazily on first data access, see {@link BinarySnapshotReportTables}.
+ * Supports {@link SecurityTransaction}, {@link DerivativeTransaction} and {@link ForeignExchangeTransaction}
+ * only, their subclasses are not supported.
+ */
+public class BinaryReportTablesCodec implements ReportTablesCodec {
+    static final byte[] MAGIC = {'B', 'R', 'P', 'S'};
+    static final int VERSION = 1;
+    static final int TABLE_COUNT = 8;
+    static final int NULL = 0;
+    static final int COMPACT_DECIMAL = 1;
+    static final int BIG_DECIMAL = 2;
+
+    /**
+     * @throws IllegalArgumentException if transaction table contains transaction of unsupported type
+     */
+    @Override
+    public void write(ReportTables tables, OutputStream out) throws IOException {
+        BinarySnapshotEncoder encoder = new BinarySnapshotEncoder();
+        byte[][] encodedTables = {
+                encoder.encodeTable(tables.getAccountPropertyTable().getData(), encoder::write),
+                encoder.encodeTable(tables.getAccountCashTable().getData(), encoder::write),
+                encoder.encodeTable(tables.getCashFlowTable().getData(), encoder::write),
+                encoder.encodeTable(tables.getSecuritiesTable().getData(), encoder::write),
+                encoder.encodeTable(tables.getTransactionTable().getData(), encoder::write),
+                encoder.encodeTable(tables.getSecurityEventCashFlowTable().getData(), encoder::write),
+                encoder.encodeTable(tables.getSecurityQuoteTable().getData(), encoder::write),
+                encoder.encodeTable(tables.getForeignExchangeRateTable().getData(), encoder::write)
+        };
+        out.write(encoder.encodeHeader(encodedTables));
+        for (byte[] table : encodedTables) {
+            out.write(table);
+        }
+    }
+
+    /**
+     * Returns lazily decoded tables. Content of {@link ByteBufferInputStream} is not copied.
+     *
+     * @throws IOException if input stream can't be read or snapshot header is corrupted
+     */
+    @Override
+    public BinarySnapshotReportTables read(InputStream in) throws IOException {
+        ByteBuffer snapshot = (in instanceof ByteBufferInputStream) ?
+                ((ByteBufferInputStream) in).getRemainingBytes() :
+                ByteBuffer.wrap(in.readAllBytes());
+        return BinarySnapshotReportTables.of(snapshot);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.broker.report_parser.api.AbstractTransaction.AbstractTransactionBuilder;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.AccountPropertyType;
+import org.spacious_team.broker.pojo.CashFlowType;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+import org.spacious_team.broker.pojo.SecurityType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.BIG_DECIMAL;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.COMPACT_DECIMAL;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.NULL;
+
+/**
+ * Decodes rows of {@link BinaryReportTablesCodec} format. Throws {@link RuntimeException} if content is corrupted.
+ * Not thread-safe.
+ */
+final class BinarySnapshotDecoder {
+    private static final int MAX_VAR_LONG_SHIFT = 63;
+    private final ByteBuffer buffer;
+    private final String[] dictionary;
+
+    /**
+     * @param buffer bytes from current position to limit are decoded, buffer position is not changed
+     */
+    BinarySnapshotDecoder(ByteBuffer buffer, String[] dictionary) {
+        this.buffer = buffer.duplicate();
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Decodes dictionary and moves buffer position to the next byte after dictionary
+     */
+    static String[] decodeDictionary(ByteBuffer buffer) {
+        String[] dictionary = new String[readLength(buffer)];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] bytes = new byte[readLength(buffer)];
+            buffer.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return dictionary;
+    }
+
+    <T> List<T> decodeTable(Supplier<T> rowDecoder) {
+        int count = readLength(buffer);
+        List<T> rows = new ArrayList<>(Math.min(count, buffer.remaining()));  // each row takes at least 1 byte
+        for (int i = 0; i < count; i++) {
+            rows.add(rowDecoder.get());
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("nullness")  // not null fields are encoded not null
+    AccountProperty readAccountProperty() {
+        return AccountProperty.builder()
+                .id(readNullableInt())
+                .account(readString())
+                .timestamp(readInstant())
+                .property(AccountPropertyType.valueOf(readString()))
+                .value(readString())
+                .build();
+    }
+
+    @SuppressWarnings("nullness")
+    AccountCash readAccountCash() {
+        return AccountCash.builder()
+                .id(readNullableInt())
+                .account(readString())
+                .timestamp(readInstant())
+                .market(readString())
+                .value(readDecimal())
+                .currency(readString())
+                .build();
+    }
+
+    @SuppressWarnings("nullness")
+    EventCashFlow readEventCashFlow() {
+        return EventCashFlow.builder()
+                .id(readNullableInt())
+                .account(readString())
+                .timestamp(readInstant())
+                .eventType(readCashFlowType())
+                .value(readDecimal())
+                .currency(readString())
+                .description(readString())
+                .build();
+    }
+
+    @SuppressWarnings("nullness")
+    Security readSecurity() {
+        return Security.builder()
+                .id(readNullableInt())
+                .type(SecurityType.valueOf(readString()))
+                .isin(readString())
+                .ticker(readString())
+                .name(readString())
+                .build();
+    }
+
+    @SuppressWarnings("nullness")
+    AbstractTransaction readTransaction() {
+        TransactionType type = TransactionType.ofId(readLength(buffer));
+        AbstractTransactionBuilder<?, ?> builder = type.newBuilder()
+                .id(readNullableInt())
+                .tradeId(readString())
+                .account(readString())
+                .security(readInt())
+                .timestamp(readInstant())
+                .count(readInt())
+                .value(readDecimal())
+                .fee(readDecimal())
+                .valueCurrency(readString())
+                .feeCurrency(readString());
+        if (type.hasTypeSpecificAmount()) {
+            type.setTypeSpecificAmount(builder, readDecimal());
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("nullness")
+    SecurityEventCashFlow readSecurityEventCashFlow() {
+        return SecurityEventCashFlow.builder()
+                .id(readNullableInt())
+                .account(readString())
+                .timestamp(readInstant())
+                .security(readInt())
+                .count(readNullableInt())
+                .eventType(readCashFlowType())
+                .value(readDecimal())
+                .currency(readString())
+                .build();
+    }
+
+    @SuppressWarnings("nullness")
+    SecurityQuote readSecurityQuote() {
+        return SecurityQuote.builder()
+                .id(readNullableInt())
+                .security(readInt())
+                .timestamp(readInstant())
+                .quote(readDecimal())
+                .price(readDecimal())
+                .accruedInterest(readDecimal())
+                .currency(readString())
+                .build();
+    }
+
+    @SuppressWarnings("nullness")
+    ForeignExchangeRate readForeignExchangeRate() {
+        return ForeignExchangeRate.builder()
+                .date(readDate())
+                .currencyPair(readString())
+                .rate(readDecimal())
+                .build();
+    }
+
+    private @Nullable CashFlowType readCashFlowType() {
+        long value = readVarLong(buffer);
+        return (value == NULL) ? null : CashFlowType.valueOf(Math.toIntExact(value - 1));
+    }
+
+    private @Nullable String readString() {
+        long code = readVarLong(buffer);
+        return (code == NULL) ? null : dictionary[Math.toIntExact(code - 1)];
+    }
+
+    private int readInt() {
+        return Math.toIntExact(unZigZag(readVarLong(buffer)));
+    }
+
+    private @Nullable Integer readNullableInt() {
+        long value = readVarLong(buffer);
+        return (value == NULL) ? null : Math.toIntExact(unZigZag(value - 1));
+    }
+
+    private @Nullable Instant readInstant() {
+        long value = readVarLong(buffer);
+        if (value == NULL) {
+            return null;
+        }
+        long epochSecond = unZigZag(value - 1);
+        return Instant.ofEpochSecond(epochSecond, readVarLong(buffer));
+    }
+
+    private @Nullable LocalDate readDate() {
+        long value = readVarLong(buffer);
+        return (value == NULL) ? null : LocalDate.ofEpochDay(unZigZag(value - 1));
+    }
+
+    private @Nullable BigDecimal readDecimal() {
+        long type = readVarLong(buffer);
+        if (type == NULL) {
+            return null;
+        }
+        int scale = readInt();
+        if (type == COMPACT_DECIMAL) {
+            return BigDecimal.valueOf(unZigZag(readVarLong(buffer)), scale);
+        } else if (type == BIG_DECIMAL) {
+            byte[] bytes = new byte[readLength(buffer)];
+            buffer.get(bytes);
+            return new BigDecimal(new BigInteger(bytes), scale);
+        }
+        throw new IllegalArgumentException("Unsupported decimal type: " + type);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int readLength(ByteBuffer buffer) {
+        return Math.toIntExact(readVarLong(buffer));
+    }
+
+    /**
+     * Reads unsigned LEB128 value
+     */
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift <= MAX_VAR_LONG_SHIFT; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length number");
+    }
+}
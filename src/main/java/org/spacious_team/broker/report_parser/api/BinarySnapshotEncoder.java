@@ -0,0 +1,228 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.CashFlowType;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.BIG_DECIMAL;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.COMPACT_DECIMAL;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.MAGIC;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.NULL;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.VERSION;
+
+/**
+ * Encodes rows to {@link BinaryReportTablesCodec} format. Strings are replaced by codes of dictionary,
+ * shared by all tables. Not thread-safe.
+ */
+final class BinarySnapshotEncoder implements SnapshotFieldWriter {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private byte[] buffer = new byte[1024];
+    private int size = 0;
+
+    /**
+     * @return encoded row count and rows
+     */
+    <T> byte[] encodeTable(Collection<? extends T> rows, Consumer<? super T> rowEncoder) {
+        size = 0;
+        writeVarLong(rows.size());
+        for (T row : rows) {
+            rowEncoder.accept(row);
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * @return encoded header with dictionary of strings found in previously encoded tables
+     */
+    byte[] encodeHeader(byte[][] tables) {
+        size = 0;
+        writeBytes(MAGIC);
+        writeVarLong(VERSION);
+        writeVarLong(dictionary.size());
+        for (String string : dictionary) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+        for (byte[] table : tables) {
+            writeVarLong(table.length);
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    void write(AccountProperty property) {
+        SnapshotRows.write(property, this);
+    }
+
+    void write(AccountCash cash) {
+        SnapshotRows.write(cash, this);
+    }
+
+    void write(EventCashFlow cashFlow) {
+        SnapshotRows.write(cashFlow, this);
+    }
+
+    void write(Security security) {
+        SnapshotRows.write(security, this);
+    }
+
+    /**
+     * @throws IllegalArgumentException if transaction type is not {@link SecurityTransaction},
+     *                                  {@link DerivativeTransaction} or {@link ForeignExchangeTransaction}
+     */
+    void write(AbstractTransaction transaction) {
+        TransactionType type = TransactionType.of(transaction);
+        writeVarLong(type.getId());
+        SnapshotRows.write(transaction, this);
+        if (type.hasTypeSpecificAmount()) {
+            putDecimal(type.getTypeSpecificAmount(transaction));
+        }
+    }
+
+    void write(SecurityEventCashFlow cashFlow) {
+        SnapshotRows.write(cashFlow, this);
+    }
+
+    void write(SecurityQuote quote) {
+        SnapshotRows.write(quote, this);
+    }
+
+    void write(ForeignExchangeRate rate) {
+        SnapshotRows.write(rate, this);
+    }
+
+    @Override
+    public void putCashFlowType(@Nullable CashFlowType type) {
+        writeVarLong((type == null) ? NULL : type.getId() + 1L);
+    }
+
+    @Override
+    public void putString(@Nullable String value) {
+        if (value == null) {
+            writeVarLong(NULL);
+            return;
+        }
+        int code = codes.computeIfAbsent(value, v -> {
+            dictionary.add(v);
+            return dictionary.size() - 1;
+        });
+        writeVarLong(code + 1L);
+    }
+
+    @Override
+    public void putInt(int value) {
+        writeVarLong(zigZag(value));
+    }
+
+    @Override
+    public void putNullableInt(@Nullable Integer value) {
+        writeVarLong((value == null) ? NULL : zigZag(value) + 1);
+    }
+
+    /**
+     * Writes epoch second and nanos, nanos is 0 for most reports and takes 1 byte
+     */
+    @Override
+    public void putInstant(@Nullable Instant value) {
+        if (value == null) {
+            writeVarLong(NULL);
+        } else {
+            writeVarLong(zigZag(value.getEpochSecond()) + 1);
+            writeVarLong(value.getNano());
+        }
+    }
+
+    @Override
+    public void putDate(@Nullable LocalDate value) {
+        writeVarLong((value == null) ? NULL : zigZag(value.toEpochDay()) + 1);
+    }
+
+    /**
+     * Writes unscaled value as long if possible, otherwise as big integer bytes
+     */
+    @Override
+    public void putDecimal(@Nullable BigDecimal value) {
+        if (value == null) {
+            writeVarLong(NULL);
+            return;
+        }
+        BigInteger unscaledValue = value.unscaledValue();
+        if (unscaledValue.bitLength() < Long.SIZE) {
+            writeVarLong(COMPACT_DECIMAL);
+            putInt(value.scale());
+            writeVarLong(zigZag(unscaledValue.longValue()));
+        } else {
+            byte[] bytes = unscaledValue.toByteArray();
+            writeVarLong(BIG_DECIMAL);
+            putInt(value.scale());
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Writes unsigned LEB128 value
+     */
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, size + length));
+        }
+    }
+}
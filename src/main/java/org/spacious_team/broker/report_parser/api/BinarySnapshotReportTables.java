@@ -0,0 +1,150 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Getter;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.MAGIC;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.TABLE_COUNT;
+import static org.spacious_team.broker.report_parser.api.BinaryReportTablesCodec.VERSION;
+import static org.spacious_team.broker.report_parser.api.BinarySnapshotDecoder.decodeDictionary;
+import static org.spacious_team.broker.report_parser.api.BinarySnapshotDecoder.readLength;
+
+/**
+ * Report tables of {@link BinaryReportTablesCodec binary snapshot}. Only snapshot header is decoded on creation,
+ * table is decoded on first data access. Decoded rows are soft referenced and are decoded again
+ * after garbage collection.
+ */
+@Getter
+public class BinarySnapshotReportTables implements ReportTables {
+    private final BrokerReport report = ReportTablesSnapshot.SnapshotBrokerReport.INSTANCE;
+    private final ReportTable<AccountProperty> accountPropertyTable;
+    private final ReportTable<AccountCash> accountCashTable;
+    private final ReportTable<EventCashFlow> cashFlowTable;
+    private final ReportTable<Security> securitiesTable;
+    private final ReportTable<AbstractTransaction> transactionTable;
+    private final ReportTable<SecurityEventCashFlow> securityEventCashFlowTable;
+    private final ReportTable<SecurityQuote> securityQuoteTable;
+    private final ReportTable<ForeignExchangeRate> foreignExchangeRateTable;
+
+    private BinarySnapshotReportTables(ByteBuffer[] tables, String[] dictionary) {
+        this.accountPropertyTable = new SnapshotTable<>(report, tables[0], dictionary,
+                BinarySnapshotDecoder::readAccountProperty);
+        this.accountCashTable = new SnapshotTable<>(report, tables[1], dictionary,
+                BinarySnapshotDecoder::readAccountCash);
+        this.cashFlowTable = new SnapshotTable<>(report, tables[2], dictionary,
+                BinarySnapshotDecoder::readEventCashFlow);
+        this.securitiesTable = new SnapshotTable<>(report, tables[3], dictionary,
+                BinarySnapshotDecoder::readSecurity);
+        this.transactionTable = new SnapshotTable<>(report, tables[4], dictionary,
+                BinarySnapshotDecoder::readTransaction);
+        this.securityEventCashFlowTable = new SnapshotTable<>(report, tables[5], dictionary,
+                BinarySnapshotDecoder::readSecurityEventCashFlow);
+        this.securityQuoteTable = new SnapshotTable<>(report, tables[6], dictionary,
+                BinarySnapshotDecoder::readSecurityQuote);
+        this.foreignExchangeRateTable = new SnapshotTable<>(report, tables[7], dictionary,
+                BinarySnapshotDecoder::readForeignExchangeRate);
+    }
+
+    /**
+     * Opens memory-mapped snapshot file, file content is not copied to heap.
+     *
+     * @throws BrokerReportParseException if file can't be read or snapshot header is corrupted
+     */
+    public static BinarySnapshotReportTables open(Path path) {
+        try {
+            return of(ByteBufferInputStream.of(path).getRemainingBytes());
+        } catch (IOException e) {
+            throw new BrokerReportParseException("Can't read snapshot " + path, e);
+        }
+    }
+
+    /**
+     * @param snapshot bytes from current position to limit, buffer should not be modified after call
+     * @throws IOException if snapshot header is corrupted or snapshot version is not supported
+     */
+    static BinarySnapshotReportTables of(ByteBuffer snapshot) throws IOException {
+        ByteBuffer buffer = snapshot.duplicate();
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new IOException("Not a report tables snapshot");
+            }
+            int version = readLength(buffer);
+            if (version != VERSION) {
+                throw new IOException("Unsupported report tables snapshot version " + version);
+            }
+            String[] dictionary = decodeDictionary(buffer);
+            int[] lengths = new int[TABLE_COUNT];
+            for (int i = 0; i < TABLE_COUNT; i++) {
+                lengths[i] = readLength(buffer);
+            }
+            ByteBuffer[] tables = new ByteBuffer[TABLE_COUNT];
+            int offset = buffer.position();
+            for (int i = 0; i < TABLE_COUNT; i++) {
+                tables[i] = buffer.slice(offset, lengths[i]);
+                offset += lengths[i];
+            }
+            return new BinarySnapshotReportTables(tables, dictionary);
+        } catch (RuntimeException e) {
+            throw new IOException("Report tables snapshot is corrupted", e);
+        }
+    }
+
+
+    private static class SnapshotTable<RowType> extends InitializableReportTable<RowType> {
+        private final ByteBuffer table;
+        private final String[] dictionary;
+        private final Function<BinarySnapshotDecoder, RowType> rowDecoder;
+
+        private SnapshotTable(BrokerReport report, ByteBuffer table, String[] dictionary,
+                              Function<BinarySnapshotDecoder, RowType> rowDecoder) {
+            super(report);
+            this.table = table;
+            this.dictionary = dictionary;
+            this.rowDecoder = rowDecoder;
+        }
+
+        @Override
+        protected Collection<RowType> parseTable() {
+            BinarySnapshotDecoder decoder = new BinarySnapshotDecoder(table, dictionary);
+            return decoder.decodeTable(() -> rowDecoder.apply(decoder));
+        }
+
+        @Override
+        protected boolean isDataSoftReferenced() {
+            return true;
+        }
+    }
+}
@@ -18,10 +18,19 @@
 
 package org.spacious_team.broker.report_parser.api;
 
+import org.checkerframework.checker.nullness.qual.PolyNull;
 import org.spacious_team.table_wrapper.api.ReportPage;
 
 public interface BrokerReport extends AutoCloseable {
 
     ReportPage getReportPage();
 
+    /**
+     * Returns canonical instance of string, route account, currency, market and other repeated string values
+     * through this method to share equal strings between parsed objects. Uses {@link StringPool#global() global}
+     * pool by default, override to use report scoped pool.
+     */
+    default @PolyNull String intern(@PolyNull String value) {
+        return StringPool.global().intern(value);
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * JDK Flight Recorder event of broker report creation by {@link AbstractBrokerReportFactory}.
+ * Input stream is not wrapped by byte counter if recording is off.
+ */
+@Name(BrokerReportCreationEvent.NAME)
+@Label("Broker Report Creation")
+@Category({"Broker Report Parser"})
+@Description("Broker report creation attempt by broker report factory")
+class BrokerReportCreationEvent extends Event {
+    static final String NAME = "org.spacious_team.broker.report_parser.BrokerReportCreation";
+
+    @Label("Factory")
+    @Nullable Class<?> factory;
+
+    @Label("File Name")
+    @Nullable String fileName;
+
+    @Label("Success")
+    @Description("Broker report is created by factory")
+    boolean success;
+
+    @Label("Bytes Consumed")
+    @Description("Bytes read from input stream before reset")
+    @DataAmount
+    long bytesConsumed;
+}
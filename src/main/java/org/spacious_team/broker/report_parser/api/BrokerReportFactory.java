@@ -19,6 +19,9 @@
 package org.spacious_team.broker.report_parser.api;
 
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 public interface BrokerReportFactory {
@@ -39,6 +42,26 @@ public interface BrokerReportFactory {
      */
     Optional<BrokerReport> create(String fileName, InputStream is);
 
+    /**
+     * Checks memory-mapped file and returns broker report if can. Input stream is reset by buffer position change,
+     * so file content is not copied to heap for {@link InputStream#reset()}.
+     * @return broker report if can parse or empty optional
+     * @throws BrokerReportParseException if file can't be read
+     */
+    @SuppressWarnings("unused")
+    default Optional<BrokerReport> create(Path path) {
+        return create(String.valueOf(path.getFileName()), ByteBufferInputStream.of(path));
+    }
+
+    /**
+     * Signatures are checked by {@link BrokerReportFactoryRegistry} before {@link #canCreate(String, InputStream)} call.
+     * Factory is not used if any of signatures doesn't match the report.
+     * @return report signatures or empty collection if factory should be checked for every report
+     */
+    default Collection<BrokerReportSignature> getSignatures() {
+        return Collections.emptyList();
+    }
+
     @SuppressWarnings("unused")
     String getBrokerName();
 }
@@ -0,0 +1,340 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Selects factories by {@link BrokerReportFactory#getSignatures() signatures} and creates report
+ * by first suitable factory. Factories with leading bytes signature are indexed by first byte, so they are
+ * checked only for reports with matching first byte.
+ */
+public class BrokerReportFactoryRegistry {
+    public static final int DEFAULT_PROBE_SIZE = 64 * 1024;
+    private final int probeSize;
+    private final List<FactoryEntry> factories = new ArrayList<>();
+    private final Map<Integer, List<FactoryEntry>> factoriesByFirstByte = new HashMap<>();
+
+    public BrokerReportFactoryRegistry(Collection<? extends BrokerReportFactory> factories) {
+        this(factories, DEFAULT_PROBE_SIZE);
+    }
+
+    /**
+     * @param probeSize leading bytes count read for signature checking
+     */
+    public BrokerReportFactoryRegistry(Collection<? extends BrokerReportFactory> factories, int probeSize) {
+        this.probeSize = probeSize;
+        int order = 0;
+        for (BrokerReportFactory factory : factories) {
+            FactoryEntry entry = new FactoryEntry(factory, List.copyOf(factory.getSignatures()), order++);
+            @Nullable Integer firstByte = getIndexedFirstByte(entry.signatures);
+            if (firstByte == null) {
+                this.factories.add(entry);
+            } else {
+                factoriesByFirstByte.computeIfAbsent(firstByte, key -> new ArrayList<>(1)).add(entry);
+            }
+        }
+    }
+
+    private static @Nullable Integer getIndexedFirstByte(Collection<BrokerReportSignature> signatures) {
+        for (BrokerReportSignature signature : signatures) {
+            if (signature instanceof BrokerReportSignature.LeadingBytesSignature) {
+                byte[] bytes = ((BrokerReportSignature.LeadingBytesSignature) signature).bytes;
+                if (bytes.length > 0) {
+                    return Byte.toUnsignedInt(bytes[0]);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns factories in registration order, which signatures match report. Resets input stream to marked position.
+     *
+     * @throws IllegalArgumentException   if InputStream does not support mark
+     * @throws BrokerReportParseException if InputStream can't be read
+     */
+    public List<BrokerReportFactory> getCandidates(String fileName, InputStream is) {
+        BrokerReportProbe probe = BrokerReportProbe.of(fileName, is, probeSize);
+        List<FactoryEntry> entries = new ArrayList<>(factories);
+        ByteBuffer head = probe.getHead();
+        if (head.hasRemaining()) {
+            @Nullable List<FactoryEntry> indexed = factoriesByFirstByte.get(Byte.toUnsignedInt(head.get(head.position())));
+            if (indexed != null) {
+                entries.addAll(indexed);
+                entries.sort(Comparator.comparingInt(e -> e.order));
+            }
+        }
+        List<BrokerReportFactory> candidates = new ArrayList<>(entries.size());
+        for (FactoryEntry entry : entries) {
+            if (entry.matches(probe)) {
+                candidates.add(entry.factory);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Creates report by first of {@link #getCandidates(String, InputStream) candidates},
+     * which {@link BrokerReportFactory#canCreate(String, InputStream) can} create report.
+     * Resets input stream to marked position if report is not created.
+     *
+     * @return created report and its factory or empty optional if no one factory can create report
+     * @throws IllegalArgumentException   if InputStream does not support mark
+     * @throws BrokerReportParseException if InputStream can't be read or reset
+     */
+    public Optional<CreatedBrokerReport> create(String fileName, InputStream is) {
+        for (BrokerReportFactory factory : getCandidates(fileName, is)) {
+            if (factory.canCreate(fileName, is)) {
+                Optional<BrokerReport> report = factory.create(fileName, is);
+                if (report.isPresent()) {
+                    return Optional.of(new CreatedBrokerReport(factory, report.get()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+
+    /**
+     * Concurrently creates report by all {@link #getCandidates(String, InputStream) candidates}. Each factory reads
+     * its own view of report bytes, content of input stream is not copied. Report created by the factory,
+     * which is registered first, is returned. Attempts of factories registered later are canceled,
+     * running attempts are interrupted, reports created by them are closed. Input stream position is not changed.
+     *
+     * @return created report and its factory or empty optional if no one factory can create report
+     * @throws BrokerReportParseException if report is not created and some factories failed,
+     *                                    failures are added as suppressed exceptions
+     */
+    public Optional<CreatedBrokerReport> create(String fileName, ByteBufferInputStream is, Executor executor) {
+        List<BrokerReportFactory> candidates = getCandidates(fileName, is);
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return new ConcurrentCreation(fileName, is.getRemainingBytes(), candidates)
+                .create(executor);
+    }
+
+    /**
+     * Concurrently creates report from memory-mapped file.
+     *
+     * @throws BrokerReportParseException if file can't be mapped or report is not created and some factories failed
+     * @see #create(String, ByteBufferInputStream, Executor)
+     */
+    public Optional<CreatedBrokerReport> create(Path path, Executor executor) {
+        return create(String.valueOf(path.getFileName()), ByteBufferInputStream.of(path), executor);
+    }
+
+    private static void closeQuietly(BrokerReport report) {
+        try {
+            report.close();
+        } catch (Exception ignore) {
+            // report is not used
+        }
+    }
+
+
+    /**
+     * Resolves attempts in factories registration order: report of an attempt is accepted
+     * only after all attempts of factories registered earlier have completed without report.
+     */
+    private static class ConcurrentCreation {
+        private final String fileName;
+        private final ByteBuffer content;
+        private final List<Attempt> attempts;
+        private final CompletableFuture<@Nullable CreatedBrokerReport> result = new CompletableFuture<>();
+        private final Lock lock = new ReentrantLock();
+        private int nextResolvedAttempt = 0;  // guarded by lock
+
+        private ConcurrentCreation(String fileName, ByteBuffer content, List<BrokerReportFactory> factories) {
+            this.fileName = fileName;
+            this.content = content;
+            List<Attempt> attempts = new ArrayList<>(factories.size());
+            for (BrokerReportFactory factory : factories) {
+                attempts.add(new Attempt(factory));
+            }
+            this.attempts = attempts;
+        }
+
+        private Optional<CreatedBrokerReport> create(Executor executor) {
+            for (Attempt attempt : attempts) {
+                try {
+                    executor.execute(attempt);
+                } catch (RuntimeException e) {
+                    complete(attempt, Optional.empty(), e);
+                }
+            }
+            @Nullable CreatedBrokerReport createdReport = result.join();
+            if (createdReport != null) {
+                return Optional.of(createdReport);
+            }
+            @Nullable BrokerReportParseException notRecognized = null;
+            for (Attempt attempt : attempts) {
+                if (attempt.failure != null) {
+                    if (notRecognized == null) {
+                        notRecognized = new BrokerReportParseException("Report " + fileName + " is not recognized");
+                    }
+                    notRecognized.addSuppressed(attempt.failure);
+                }
+            }
+            if (notRecognized != null) {
+                throw notRecognized;
+            }
+            return Optional.empty();
+        }
+
+        private Optional<BrokerReport> tryCreate(BrokerReportFactory factory) {
+            if (factory.canCreate(fileName, new ByteBufferInputStream(content))) {
+                return factory.create(fileName, new ByteBufferInputStream(content));
+            }
+            return Optional.empty();
+        }
+
+        private void complete(Attempt attempt, Optional<BrokerReport> report, @Nullable Throwable failure) {
+            List<BrokerReport> notUsedReports = new ArrayList<>(0);
+            lock.lock();
+            try {
+                attempt.runner = null;
+                attempt.state = AttemptState.COMPLETED;
+                attempt.report = report.orElse(null);
+                attempt.failure = failure;
+                if (result.isDone()) {
+                    report.ifPresent(notUsedReports::add);
+                } else {
+                    resolve(notUsedReports);
+                }
+            } finally {
+                lock.unlock();
+            }
+            notUsedReports.forEach(BrokerReportFactoryRegistry::closeQuietly);
+        }
+
+        private void resolve(List<BrokerReport> notUsedReports) {
+            while (nextResolvedAttempt < attempts.size()) {
+                Attempt attempt = attempts.get(nextResolvedAttempt);
+                if (attempt.state != AttemptState.COMPLETED) {
+                    return; // waiting for factory registered earlier
+                }
+                nextResolvedAttempt++;
+                if (attempt.report != null) {
+                    result.complete(new CreatedBrokerReport(attempt.factory, attempt.report));
+                    cancelAttemptsAfter(nextResolvedAttempt, notUsedReports);
+                    return;
+                }
+            }
+            result.complete(null);
+        }
+
+        private void cancelAttemptsAfter(int fromIndex, List<BrokerReport> notUsedReports) {
+            for (Attempt attempt : attempts.subList(fromIndex, attempts.size())) {
+                if (attempt.state == AttemptState.NEW) {
+                    attempt.state = AttemptState.CANCELED;
+                } else if (attempt.state == AttemptState.RUNNING && attempt.runner != null) {
+                    attempt.isInterrupted = true;
+                    attempt.runner.interrupt();
+                } else if (attempt.report != null) {
+                    notUsedReports.add(attempt.report);
+                }
+            }
+        }
+
+        @RequiredArgsConstructor
+        private class Attempt implements Runnable {
+            private final BrokerReportFactory factory;
+            // fields are guarded by lock
+            private AttemptState state = AttemptState.NEW;
+            private @Nullable Thread runner;
+            private @Nullable BrokerReport report;
+            private @Nullable Throwable failure;
+            private boolean isInterrupted = false;
+
+            @Override
+            public void run() {
+                lock.lock();
+                try {
+                    if (state != AttemptState.NEW) {
+                        return; // canceled
+                    }
+                    state = AttemptState.RUNNING;
+                    runner = Thread.currentThread();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    complete(this, tryCreate(factory), null);
+                } catch (Throwable e) {  // error should also complete attempt, otherwise creation waits forever
+                    complete(this, Optional.empty(), e);
+                } finally {
+                    if (isInterrupted) {  // runner is not interrupted after completion, read is safe
+                        //noinspection ResultOfMethodCallIgnored
+                        Thread.interrupted(); // clears interruption of canceled attempt
+                    }
+                }
+            }
+        }
+    }
+
+    private enum AttemptState {
+        NEW, RUNNING, COMPLETED, CANCELED
+    }
+
+
+    @RequiredArgsConstructor
+    private static class FactoryEntry {
+        private final BrokerReportFactory factory;
+        private final List<BrokerReportSignature> signatures;
+        private final int order;
+
+        boolean matches(BrokerReportProbe probe) {
+            for (BrokerReportSignature signature : signatures) {
+                if (!signature.matches(probe)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+
+    @Getter
+    @ToString
+    @RequiredArgsConstructor
+    public static class CreatedBrokerReport {
+        private final BrokerReportFactory factory;
+        private final BrokerReport report;
+    }
+}
@@ -20,6 +20,10 @@ package org.spacious_team.broker.report_parser.api;
 
 public class BrokerReportParseException extends RuntimeException {
 
+    public BrokerReportParseException(String message) {
+        super(message);
+    }
+
     public BrokerReportParseException(String message, Throwable cause) {
         super(message, cause);
     }
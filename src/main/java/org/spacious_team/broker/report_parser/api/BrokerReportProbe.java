@@ -0,0 +1,240 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Leading bytes of report file, used for fast {@link BrokerReportSignature} check.
+ * Zip entry names and XML root element are computed once and shared by all checked signatures.
+ */
+public class BrokerReportProbe {
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_MIN_SIZE = 22;
+
+    @Getter
+    private final String fileName;
+    private final ByteBuffer head;
+    /**
+     * True if {@link #getHead()} contains whole report file, false if it is only a beginning of the file
+     */
+    @Getter
+    private final boolean complete;
+    private @MonotonicNonNull Set<String> zipEntryNames;
+    private boolean isXmlRootElementRead = false;
+    private @Nullable String xmlRootElement;
+
+    BrokerReportProbe(String fileName, ByteBuffer head, boolean complete) {
+        this.fileName = fileName;
+        this.head = head.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        this.complete = complete;
+    }
+
+    /**
+     * Reads leading bytes of input stream and resets stream to marked position.
+     * Bytes of {@link ByteBufferInputStream} are not copied.
+     *
+     * @throws IllegalArgumentException   if InputStream does not support mark
+     * @throws BrokerReportParseException if InputStream can't be read
+     */
+    static BrokerReportProbe of(String fileName, InputStream is, int headSize) {
+        if (is instanceof ByteBufferInputStream) {
+            return new BrokerReportProbe(fileName, ((ByteBufferInputStream) is).getRemainingBytes(), true);
+        } else if (!is.markSupported()) {
+            throw new IllegalArgumentException("Provided input stream doesn't supports mark");
+        }
+        try {
+            is.mark(headSize + 1);
+            byte[] bytes = is.readNBytes(headSize + 1);
+            is.reset();
+            boolean isComplete = bytes.length <= headSize;
+            return new BrokerReportProbe(fileName, ByteBuffer.wrap(bytes, 0, Math.min(headSize, bytes.length)), isComplete);
+        } catch (Exception e) {
+            throw new BrokerReportParseException("Can't read input stream", e);
+        }
+    }
+
+    /**
+     * Returns read-only view of leading bytes
+     */
+    public ByteBuffer getHead() {
+        return head.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public boolean startsWith(byte[] bytes) {
+        if (head.remaining() < bytes.length) {
+            return false;
+        }
+        int position = head.position();
+        for (int i = 0; i < bytes.length; i++) {
+            if (head.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isZip() {
+        return head.remaining() >= 4 && head.getInt(head.position()) == LOCAL_FILE_HEADER_SIGNATURE;
+    }
+
+    /**
+     * Returns zip entry names found in leading bytes. If probe is not {@link #isComplete() complete},
+     * names of entries located after leading bytes are not returned.
+     */
+    public synchronized Set<String> getZipEntryNames() {
+        if (zipEntryNames == null) {
+            zipEntryNames = isZip() ? Collections.unmodifiableSet(readZipEntryNames()) : Set.of();
+        }
+        return zipEntryNames;
+    }
+
+    /**
+     * Returns local name of XML root element or empty optional if leading bytes are not XML document beginning.
+     */
+    public synchronized Optional<String> getXmlRootElement() {
+        if (!isXmlRootElementRead) {
+            xmlRootElement = readXmlRootElement();
+            isXmlRootElementRead = true;
+        }
+        return Optional.ofNullable(xmlRootElement);
+    }
+
+    private Set<String> readZipEntryNames() {
+        Set<String> names = new HashSet<>();
+        if (!complete || !readZipCentralDirectory(names)) {
+            readZipLocalFileHeaders(names);
+        }
+        return names;
+    }
+
+    /**
+     * @return false if central directory is not found or not all of its entries are in leading bytes
+     * (for example zip64 archive), names are not added in this case
+     */
+    private boolean readZipCentralDirectory(Set<String> names) {
+        int start = head.position();
+        int end = head.limit();
+        int minEocdOffset = Math.max(start, end - END_OF_CENTRAL_DIRECTORY_MIN_SIZE - 0xFFFF);
+        for (int eocd = end - END_OF_CENTRAL_DIRECTORY_MIN_SIZE; eocd >= minEocdOffset; eocd--) {
+            if (head.getInt(eocd) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                int entries = Short.toUnsignedInt(head.getShort(eocd + 10));
+                long offset = start + Integer.toUnsignedLong(head.getInt(eocd + 16));
+                Set<String> centralDirectoryNames = new HashSet<>();
+                for (int i = 0; i < entries; i++) {
+                    if (offset + 46 > end || head.getInt((int) offset) != CENTRAL_DIRECTORY_SIGNATURE) {
+                        return false;
+                    }
+                    int nameLength = Short.toUnsignedInt(head.getShort((int) offset + 28));
+                    int extraLength = Short.toUnsignedInt(head.getShort((int) offset + 30));
+                    int commentLength = Short.toUnsignedInt(head.getShort((int) offset + 32));
+                    if (offset + 46 + nameLength > end) {
+                        return false;
+                    }
+                    centralDirectoryNames.add(readString((int) offset + 46, nameLength));
+                    offset += 46 + nameLength + extraLength + commentLength;
+                }
+                names.addAll(centralDirectoryNames);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void readZipLocalFileHeaders(Set<String> names) {
+        int offset = head.position();
+        int end = head.limit();
+        while (offset + 30 <= end && head.getInt(offset) == LOCAL_FILE_HEADER_SIGNATURE) {
+            int flags = Short.toUnsignedInt(head.getShort(offset + 6));
+            long compressedSize = Integer.toUnsignedLong(head.getInt(offset + 18));
+            int nameLength = Short.toUnsignedInt(head.getShort(offset + 26));
+            int extraLength = Short.toUnsignedInt(head.getShort(offset + 28));
+            if (offset + 30 + nameLength > end) {
+                return;
+            }
+            names.add(readString(offset + 30, nameLength));
+            boolean hasDataDescriptor = (flags & 0x08) != 0;
+            if (hasDataDescriptor) {
+                return; // compressed size is unknown, next entry can't be found
+            }
+            long next = offset + 30L + nameLength + extraLength + compressedSize;
+            if (next > end) {
+                return;
+            }
+            offset = (int) next;
+        }
+    }
+
+    private String readString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        head.duplicate().position(offset).get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private @Nullable String readXmlRootElement() {
+        @Nullable XMLStreamReader reader = null;
+        try {
+            reader = createXmlInputFactory().createXMLStreamReader(new ByteBufferInputStream(head));
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader.getLocalName();
+                }
+            }
+            return null;
+        } catch (Exception e) {
+            return null;
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    private static void closeQuietly(@Nullable XMLStreamReader reader) {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+        } catch (Exception ignore) {
+            // nothing to do
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Cheap report check, used by {@link BrokerReportFactoryRegistry} to select factories, which may create report.
+ * Signature should not return false for report, which can be created by factory.
+ */
+@FunctionalInterface
+public interface BrokerReportSignature {
+
+    boolean matches(BrokerReportProbe probe);
+
+    static BrokerReportSignature fileName(Pattern fileNamePattern) {
+        return probe -> fileNamePattern.matcher(probe.getFileName()).matches();
+    }
+
+    /**
+     * Checks file magic number
+     */
+    static BrokerReportSignature leadingBytes(byte... bytes) {
+        return new LeadingBytesSignature(bytes.clone());
+    }
+
+    /**
+     * Checks zip archive has entry. Not complete probe matches if entry is not found in probe leading bytes.
+     */
+    static BrokerReportSignature zipEntry(String entryName) {
+        return probe -> probe.isZip() &&
+                (probe.getZipEntryNames().contains(entryName) || !probe.isComplete());
+    }
+
+    /**
+     * Checks XML document root element local name
+     */
+    static BrokerReportSignature xmlRootElement(String localName) {
+        return probe -> probe.getXmlRootElement()
+                .map(localName::equals)
+                .orElse(false);
+    }
+
+    /**
+     * Returns signature, which matches if any of signatures matches
+     */
+    static BrokerReportSignature anyOf(BrokerReportSignature... signatures) {
+        List<BrokerReportSignature> list = List.of(signatures);
+        return probe -> list.stream().anyMatch(s -> s.matches(probe));
+    }
+
+
+    /**
+     * Indexed by {@link BrokerReportFactoryRegistry} by first byte
+     */
+    @RequiredArgsConstructor
+    final class LeadingBytesSignature implements BrokerReportSignature {
+        final byte[] bytes;
+
+        @Override
+        public boolean matches(BrokerReportProbe probe) {
+            return probe.startsWith(bytes);
+        }
+
+        @Override
+        public String toString() {
+            return "LeadingBytesSignature" + Arrays.toString(bytes);
+        }
+    }
+}
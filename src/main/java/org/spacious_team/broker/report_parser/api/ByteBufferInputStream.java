@@ -0,0 +1,119 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Input stream over byte buffer. Mark and reset are implemented by buffer position change,
+ * so {@code mark(Integer.MAX_VALUE)} doesn't copy bytes to heap, unlike {@link java.io.BufferedInputStream}.
+ * Not thread-safe.
+ */
+public class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+    private int mark;
+
+    /**
+     * Creates stream over buffer bytes from current position to limit. Buffer position is not changed by the stream.
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+        this.mark = this.buffer.position();
+    }
+
+    /**
+     * Creates stream over memory-mapped file.
+     *
+     * @throws BrokerReportParseException if file can't be mapped
+     */
+    public static ByteBufferInputStream of(Path path) {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            return new ByteBufferInputStream(channel.map(READ_ONLY, 0, channel.size()));
+        } catch (Exception e) {
+            throw new BrokerReportParseException("Can't read file " + path, e);
+        }
+    }
+
+    /**
+     * Returns read-only view of not yet read bytes, allows to check content without copying and stream reading.
+     */
+    public ByteBuffer getRemainingBytes() {
+        return buffer.slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        } else if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        int count = (int) Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        mark = buffer.position();
+    }
+
+    @Override
+    public void reset() {
+        buffer.position(mark);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close, mapped buffer is released by GC
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Caches parsed report tables by report content hash and factory version. Use {@link #create(Path, BrokerReportFactory)}
+ * to get cached tables without report file opening by {@link BrokerReportFactory}.
+ */
+@RequiredArgsConstructor
+public class CachingReportTablesFactory implements ReportTablesFactory {
+    private final ReportTablesFactory factory;
+    private final ReportTablesCache cache;
+    /**
+     * Version of report tables parser, change it to invalidate cached tables after parser update
+     */
+    private final String factoryVersion;
+
+    @Override
+    public boolean canCreate(BrokerReport brokerReport) {
+        return factory.canCreate(brokerReport);
+    }
+
+    /**
+     * Creates report tables without caching, because report content is unknown
+     */
+    @Override
+    public ReportTables create(BrokerReport brokerReport) {
+        return factory.create(brokerReport);
+    }
+
+    /**
+     * Returns cached report tables or creates broker report, parses all tables and caches them.
+     * Broker report is closed before method returns, returned tables don't require opened report file.
+     * Tables are returned not cached if cache can't store them.
+     * <p>
+     * Returned tables are detached from broker report: both parsed and cached tables return
+     * same detached report by {@link ReportTable#getReport()}, which is not the report created
+     * by {@code brokerReportFactory}. Its {@link BrokerReport#getReportPage()} throws
+     * {@link UnsupportedOperationException} and {@link BrokerReport#close()} does nothing.
+     *
+     * @return report tables or empty optional if broker report or report tables can't be created by factories
+     * @throws BrokerReportParseException if file can't be read or report can't be parsed
+     */
+    public Optional<ReportTables> create(Path path, BrokerReportFactory brokerReportFactory) {
+        ReportCacheKey key = ReportCacheKey.of(path, factoryVersion);
+        Optional<ReportTables> cachedTables = cache.get(key);
+        if (cachedTables.isPresent()) {
+            return cachedTables;
+        }
+        Optional<BrokerReport> brokerReport = brokerReportFactory.create(path);
+        if (brokerReport.isEmpty()) {
+            return Optional.empty();
+        }
+        BrokerReport report = brokerReport.get();
+        try {
+            if (!factory.canCreate(report)) {
+                return Optional.empty();
+            }
+            ReportTables tables = ReportTablesSnapshot.of(factory.create(report));
+            putQuietly(key, tables);
+            return Optional.of(tables);
+        } finally {
+            closeQuietly(report);
+        }
+    }
+
+    private void putQuietly(ReportCacheKey key, ReportTables tables) {
+        try {
+            cache.put(key, tables);
+        } catch (RuntimeException ignore) {
+            // tables are parsed again on next call
+        }
+    }
+
+    private static void closeQuietly(BrokerReport report) {
+        try {
+            report.close();
+        } catch (Exception ignore) {
+            // report tables are already parsed
+        }
+    }
+}
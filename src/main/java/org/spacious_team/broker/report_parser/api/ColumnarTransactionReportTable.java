@@ -0,0 +1,214 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.broker.report_parser.api.AbstractTransaction.AbstractTransactionBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact transaction table, which stores {@link SecurityTransaction}, {@link DerivativeTransaction} and
+ * {@link ForeignExchangeTransaction} fields in primitive arrays. Amounts are stored as unscaled values and scales,
+ * account and currencies are dictionary-encoded. Transaction objects are created on {@link #getData() data} access
+ * and are not cached.
+ */
+public class ColumnarTransactionReportTable implements ReportTable<AbstractTransaction> {
+    private static final int NULL_CODE = -1;
+
+    @Getter
+    private final BrokerReport report;
+    private final int size;
+    private final byte[] types;
+    private final int[] ids;
+    private final String[] tradeIds;
+    private final int[] accounts;
+    private final int[] securities;
+    private final long[] epochSeconds;
+    private final int[] nanos;
+    private final int[] counts;
+    private final AmountColumn values;
+    private final AmountColumn fees;
+    private final AmountColumn typeSpecificAmounts;  // accrued interest or value in points
+    private final int[] valueCurrencies;
+    private final int[] feeCurrencies;
+    private final String[] dictionary;
+
+    private ColumnarTransactionReportTable(BrokerReport report, Collection<? extends AbstractTransaction> transactions) {
+        int size = transactions.size();
+        this.report = report;
+        this.size = size;
+        this.types = new byte[size];
+        this.ids = new int[size];
+        this.tradeIds = new String[size];
+        this.accounts = new int[size];
+        this.securities = new int[size];
+        this.epochSeconds = new long[size];
+        this.nanos = new int[size];
+        this.counts = new int[size];
+        this.values = new AmountColumn(size);
+        this.fees = new AmountColumn(size);
+        this.typeSpecificAmounts = new AmountColumn(size);
+        this.valueCurrencies = new int[size];
+        this.feeCurrencies = new int[size];
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int i = 0;
+        for (AbstractTransaction transaction : transactions) {
+            Instant timestamp = transaction.getTimestamp();
+            TransactionType type = TransactionType.of(transaction);
+            types[i] = (byte) type.getId();
+            ids[i] = transaction.getId();
+            tradeIds[i] = transaction.getTradeId();
+            accounts[i] = encode(transaction.getAccount(), codes, strings);
+            securities[i] = transaction.getSecurity();
+            epochSeconds[i] = timestamp.getEpochSecond();
+            nanos[i] = timestamp.getNano();
+            counts[i] = transaction.getCount();
+            values.set(i, transaction.getValue());
+            fees.set(i, transaction.getFee());
+            typeSpecificAmounts.set(i, type.getTypeSpecificAmount(transaction));
+            valueCurrencies[i] = encode(transaction.getValueCurrency(), codes, strings);
+            feeCurrencies[i] = encode(transaction.getFeeCurrency(), codes, strings);
+            i++;
+        }
+        this.dictionary = strings.toArray(new String[0]);
+    }
+
+    /**
+     * Copies table rows to compact storage, source table may be released after that.
+     *
+     * @throws IllegalArgumentException if table contains transaction of other type than {@link SecurityTransaction},
+     *                                  {@link DerivativeTransaction} or {@link ForeignExchangeTransaction}
+     */
+    public static ColumnarTransactionReportTable of(ReportTable<? extends AbstractTransaction> table) {
+        return of(table.getReport(), table.getData());
+    }
+
+    /**
+     * @throws IllegalArgumentException if collection contains transaction of other type than {@link SecurityTransaction},
+     *                                  {@link DerivativeTransaction} or {@link ForeignExchangeTransaction}
+     */
+    public static ColumnarTransactionReportTable of(BrokerReport report,
+                                                    Collection<? extends AbstractTransaction> transactions) {
+        return new ColumnarTransactionReportTable(report, transactions);
+    }
+
+    private static int encode(@Nullable String value, Map<String, Integer> codes, List<String> strings) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        return codes.computeIfAbsent(value, v -> {
+            strings.add(v);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Returns unmodifiable list view, each {@link List#get(int)} call creates new transaction object.
+     */
+    @Override
+    public List<AbstractTransaction> getData() {
+        return new TransactionList();
+    }
+
+    @SuppressWarnings("nullness")
+    private AbstractTransaction getTransaction(int i) {
+        TransactionType type = TransactionType.ofId(types[i]);
+        AbstractTransactionBuilder<?, ?> builder = type.newBuilder()
+                .id(ids[i])
+                .tradeId(tradeIds[i])
+                .account(decode(accounts[i]))
+                .security(securities[i])
+                .timestamp(Instant.ofEpochSecond(epochSeconds[i], nanos[i]))
+                .count(counts[i])
+                .value(values.get(i))
+                .fee(fees.get(i))
+                .valueCurrency(decode(valueCurrencies[i]))
+                .feeCurrency(decode(feeCurrencies[i]));
+        type.setTypeSpecificAmount(builder, typeSpecificAmounts.get(i));
+        return builder.build();
+    }
+
+    private @Nullable String decode(int code) {
+        return (code == NULL_CODE) ? null : dictionary[code];
+    }
+
+
+    private class TransactionList extends AbstractList<AbstractTransaction>
+            implements ImmutableRandomAccessList<AbstractTransaction> {
+
+        @Override
+        public AbstractTransaction get(int index) {
+            Objects.checkIndex(index, size);
+            return getTransaction(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+
+    private static class AmountColumn {
+        private static final byte NULL_SCALE = Byte.MIN_VALUE;
+        private static final byte NON_COMPACT_SCALE = Byte.MAX_VALUE;
+
+        private final long[] unscaledValues;
+        private final byte[] scales;
+        private final Map<Integer, BigDecimal> nonCompactValues = new HashMap<>(0);
+
+        private AmountColumn(int size) {
+            this.unscaledValues = new long[size];
+            this.scales = new byte[size];
+        }
+
+        private void set(int i, @Nullable BigDecimal value) {
+            if (value == null) {
+                scales[i] = NULL_SCALE;
+            } else if (value.scale() > NULL_SCALE && value.scale() < NON_COMPACT_SCALE &&
+                    value.unscaledValue().bitLength() < Long.SIZE) {
+                unscaledValues[i] = value.unscaledValue().longValue();
+                scales[i] = (byte) value.scale();
+            } else {
+                scales[i] = NON_COMPACT_SCALE;
+                nonCompactValues.put(i, value);
+            }
+        }
+
+        private @Nullable BigDecimal get(int i) {
+            byte scale = scales[i];
+            if (scale == NULL_SCALE) {
+                return null;
+            } else if (scale == NON_COMPACT_SCALE) {
+                return nonCompactValues.get(i);
+            }
+            return BigDecimal.valueOf(unscaledValues[i], scale);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unmodifiable view of concatenated lists. Elements of immutable lists are not copied, element is found
+ * by binary search of source list with O(log k) complexity, where k is source lists count.
+ */
+final class ConcatenatedList<E> extends AbstractList<E> implements ImmutableRandomAccessList<E> {
+    /**
+     * Random access lists, which content can't be changed by anyone: lists of {@link List#of()} and
+     * {@link java.util.stream.Stream#toList()}, empty and singleton lists. Unmodifiable views are not here,
+     * because their source lists can be changed.
+     */
+    private static final Set<Class<?>> IMMUTABLE_LISTS = Stream.<Class<?>>of(
+                    List.of().getClass(),
+                    List.of(1).getClass(),
+                    List.of(1, 2, 3).getClass(),
+                    Collections.emptyList().getClass(),
+                    Collections.singletonList(1).getClass())
+            .collect(Collectors.toUnmodifiableSet());
+    private final List<? extends E>[] lists;
+    private final int[] offsets;  // index of first element of each list
+    private final int size;
+
+    private ConcatenatedList(List<? extends E>[] lists) {
+        this.lists = lists;
+        this.offsets = new int[lists.length];
+        int offset = 0;
+        for (int i = 0; i < lists.length; i++) {
+            offsets[i] = offset;
+            offset = Math.addExact(offset, lists[i].size());
+        }
+        this.size = offset;
+    }
+
+    /**
+     * Returns unmodifiable view of concatenated collections. Immutable random access lists are not copied,
+     * other collections are copied to provide fast random access and to be not affected by source modification.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> List<E> of(Collection<? extends Collection<? extends E>> collections) {
+        List<List<? extends E>> lists = new ArrayList<>(collections.size());
+        for (Collection<? extends E> collection : collections) {
+            if (!collection.isEmpty()) {
+                lists.add(asRandomAccessList(collection));
+            }
+        }
+        switch (lists.size()) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.unmodifiableList(lists.get(0));
+            default:
+                return new ConcatenatedList<>(lists.toArray(new List[0]));
+        }
+    }
+
+    private static <E> List<? extends E> asRandomAccessList(Collection<? extends E> collection) {
+        if (collection instanceof ImmutableRandomAccessList || IMMUTABLE_LISTS.contains(collection.getClass())) {
+            return (List<? extends E>) collection;
+        }
+        return new ArrayList<>(collection);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        int i = Arrays.binarySearch(offsets, index);
+        if (i < 0) {
+            i = -i - 2;  // list containing index, source lists are not empty
+        }
+        return lists[i].get(index - offsets[i]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (List<? extends E> list : lists) {
+            list.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Executor of report parsing tasks: virtual thread per task executor (if supported by JVM) or common fork-join pool.
+ */
+final class DefaultExecutor {
+    private static final Executor instance = createDefaultExecutor();
+
+    private DefaultExecutor() {
+    }
+
+    static Executor get() {
+        return instance;
+    }
+
+    @SuppressWarnings("nullness")
+    private static Executor createDefaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");  // java 21+
+            return (Executor) factory.invoke(null);
+        } catch (Exception e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+}
@@ -27,8 +27,6 @@ import org.spacious_team.broker.pojo.CashFlowType;
 import org.spacious_team.broker.pojo.TransactionCashFlow;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import static lombok.EqualsAndHashCode.CacheStrategy.LAZY;
@@ -43,44 +41,50 @@ public class DerivativeTransaction extends AbstractTransaction {
     public static final String QUOTE_CURRENCY = "PNT";  // point
     @EqualsAndHashCode.Exclude
     private final @Nullable BigDecimal valueInPoints;
+    private final @Nullable BigDecimal $valueInPointsForEquals;
+
+    protected DerivativeTransaction(DerivativeTransactionBuilder<?, ?> b) {
+        super(b);
+        this.valueInPoints = b.valueInPoints;
+        this.$valueInPointsForEquals = (valueInPoints == null) ? null : valueInPoints.stripTrailingZeros();
+    }
 
     @Override
-    public List<TransactionCashFlow> getTransactionCashFlows() {
-        List<TransactionCashFlow> list = new ArrayList<>(2);
-        getValueInPointsCashFlow().ifPresent(list::add);
-        getValueCashFlow(DERIVATIVE_PRICE).ifPresent(list::add);
-        getFeeCashFlow().ifPresent(list::add);
-        return list;
+    protected void acceptCashFlows(CashFlowSink sink) {
+        if (isCashFlowHookOverridden()) {
+            getValueInPointsCashFlow().ifPresent(cashFlow -> accept(cashFlow, sink));
+        } else {
+            acceptValueInPointsCashFlow(sink);
+        }
+        acceptValueCashFlowOrHook(DERIVATIVE_PRICE, sink);
+        acceptFeeCashFlowOrHook(sink);
     }
 
-    protected Optional<TransactionCashFlow> getValueInPointsCashFlow() {
+    protected void acceptValueInPointsCashFlow(CashFlowSink sink) {
         if (valueInPoints != null) {
-            return Optional.of(TransactionCashFlow.builder()
-                    .transactionId(id)
-                    .eventType(DERIVATIVE_QUOTE)
-                    .value(valueInPoints)
-                    .currency(QUOTE_CURRENCY)
-                    .build());
+            sink.accept(id, DERIVATIVE_QUOTE, valueInPoints, QUOTE_CURRENCY);
         }
-        return Optional.empty();
+    }
+
+    /**
+     * @deprecated use {@link #acceptValueInPointsCashFlow(CashFlowSink)}, this method is called by the class
+     * instead of it only if overridden
+     */
+    @Deprecated
+    protected Optional<TransactionCashFlow> getValueInPointsCashFlow() {
+        return getCashFlow(this::acceptValueInPointsCashFlow);
     }
 
     @Override
-    protected Optional<TransactionCashFlow> getValueCashFlow(CashFlowType type) {
+    protected void acceptValueCashFlow(CashFlowType type, CashFlowSink sink) {
         if (value != null && valueCurrency != null) {
-            return Optional.of(TransactionCashFlow.builder()
-                    .transactionId(id)
-                    .eventType(type)
-                    .value(value)  // zero value is permitted
-                    .currency(valueCurrency)
-                    .build());
+            sink.accept(id, type, value, valueCurrency);  // zero value is permitted
         }
-        return Optional.empty();
     }
 
     @EqualsAndHashCode.Include
     @SuppressWarnings("unused")
     private @Nullable BigDecimal getValueInPointsForEquals() {
-        return (valueInPoints == null) ? null : valueInPoints.stripTrailingZeros();
+        return $valueInPointsForEquals;
     }
 }
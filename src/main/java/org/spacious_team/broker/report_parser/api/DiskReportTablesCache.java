@@ -0,0 +1,243 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Stores report tables in local directory, one file per report. Least recently used files are deleted
+ * when total files size exceeds max size. File last modified time is updated on cache hit,
+ * so files usage order survives application restart.
+ */
+public class DiskReportTablesCache implements ReportTablesCache {
+    static final String FILE_EXTENSION = ".tables";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final Path directory;
+    private final long maxSize;
+    private final ReportTablesCodec codec;
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, Long> fileSizes = new LinkedHashMap<>(16, 0.75f, true);  // in access order
+    private long size = 0;
+
+    /**
+     * @param directory cache directory, created if not exists
+     * @param maxSize   max total size of cache files in bytes
+     * @throws IllegalArgumentException if max size is not positive
+     * @throws UncheckedIOException     if directory can't be created or read
+     */
+    @SuppressWarnings("method.invocation")  // all fields are initialized before files loading
+    public DiskReportTablesCache(Path directory, long maxSize, ReportTablesCodec codec) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size should be positive");
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.codec = codec;
+        try {
+            Files.createDirectories(directory);
+            loadFiles();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't open cache directory " + directory, e);
+        }
+    }
+
+    private void loadFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(Files::isRegularFile)
+                    .collect(Collectors.toList());
+        }
+        files.stream()
+                .filter(file -> getFileName(file).endsWith(TEMP_FILE_EXTENSION))  // not completed writes
+                .forEach(DiskReportTablesCache::deleteQuietly);
+        List<Path> cacheFiles = files.stream()
+                .filter(file -> getFileName(file).endsWith(FILE_EXTENSION))
+                .sorted(Comparator.comparing(DiskReportTablesCache::getLastModifiedTime))
+                .collect(Collectors.toList());
+        lock.lock();
+        try {
+            for (Path file : cacheFiles) {
+                String fileName = getFileName(file);
+                String id = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+                long fileSize = Files.size(file);
+                fileSizes.put(id, fileSize);
+                size += fileSize;
+            }
+            evictIfNeed();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return stored tables or empty optional if tables are not stored, evicted or stored file is corrupted
+     */
+    @Override
+    public Optional<ReportTables> get(ReportCacheKey key) {
+        String id = key.getId();
+        if (!contains(id)) {
+            return Optional.empty();
+        }
+        Path file = getFile(id);
+        ReportTables tables;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            tables = codec.read(in);
+        } catch (Exception e) {
+            remove(id);  // file is evicted by another thread or corrupted
+            return Optional.empty();
+        }
+        setLastModifiedTimeQuietly(file);
+        return Optional.of(tables);
+    }
+
+    /**
+     * Stores tables, replaces previously stored tables for the same key.
+     *
+     * @throws UncheckedIOException if file can't be written
+     */
+    @Override
+    public void put(ReportCacheKey key, ReportTables tables) {
+        String id = key.getId();
+        @Nullable Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, id, TEMP_FILE_EXTENSION);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                codec.write(tables, out);
+            }
+            long fileSize = Files.size(tempFile);
+            lock.lock();
+            try {
+                Files.move(tempFile, getFile(id), REPLACE_EXISTING, ATOMIC_MOVE);
+                @Nullable Long oldFileSize = fileSizes.put(id, fileSize);
+                size += fileSize - ((oldFileSize == null) ? 0 : oldFileSize);
+                evictIfNeed();
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write cache file for report " + id, e);
+        } finally {
+            if (tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+        }
+    }
+
+    /**
+     * @return total size of cache files in bytes
+     */
+    public long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean contains(String id) {
+        lock.lock();
+        try {
+            return fileSizes.get(id) != null;  // moves entry to the end of access order
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String id) {
+        lock.lock();
+        try {
+            @Nullable Long fileSize = fileSizes.remove(id);
+            if (fileSize != null) {
+                size -= fileSize;
+            }
+            deleteQuietly(getFile(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Should be called under lock
+     */
+    private void evictIfNeed() {
+        for (Iterator<Map.Entry<String, Long>> it = fileSizes.entrySet().iterator(); size > maxSize && it.hasNext(); ) {
+            Map.Entry<String, Long> entry = it.next();
+            it.remove();
+            size -= entry.getValue();
+            deleteQuietly(getFile(entry.getKey()));
+        }
+    }
+
+    private Path getFile(String id) {
+        return directory.resolve(id + FILE_EXTENSION);
+    }
+
+    private static String getFileName(Path file) {
+        return String.valueOf(file.getFileName());
+    }
+
+    private static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);  // evicted first
+        }
+    }
+
+    private static void setLastModifiedTimeQuietly(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignore) {
+            // file is evicted by another thread
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignore) {
+            // file is replaced by next put or deleted by next eviction
+        }
+    }
+}
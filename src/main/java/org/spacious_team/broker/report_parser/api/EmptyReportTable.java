@@ -23,6 +23,9 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 @RequiredArgsConstructor(staticName = "of")
 public class EmptyReportTable<RowType> implements ReportTable<RowType> {
@@ -34,4 +37,9 @@ public class EmptyReportTable<RowType> implements ReportTable<RowType> {
     public List<RowType> getData() {
         return Collections.emptyList();
     }
+
+    @Override
+    public CompletionStage<List<RowType>> getDataAsync(Executor executor) {
+        return CompletableFuture.completedStage(getData());
+    }
 }
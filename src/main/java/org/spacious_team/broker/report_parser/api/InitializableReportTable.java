@@ -20,38 +20,235 @@ package org.spacious_team.broker.report_parser.api;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
+/**
+ * Parses table once on first data access. Table parsing is not guarded by monitor, concurrent readers
+ * wait for shared parsing future, so virtual threads are not pinned.
+ */
 @RequiredArgsConstructor
 public abstract class InitializableReportTable<RowType> implements ReportTable<RowType> {
     @Getter
     private final BrokerReport report;
-    private final List<RowType> data = new ArrayList<>();
-    private volatile boolean initialized = false;
+    private volatile @Nullable List<RowType> data;
+    private volatile @Nullable SoftReference<List<RowType>> softData;
+    private final AtomicReference<@Nullable CompletableFuture<List<RowType>>> initialization = new AtomicReference<>();
+    private final Lock releaseLock = new ReentrantLock();  // guards rows storing by parsing, which is not released
+    private volatile @Nullable ReportTableMetricsListener metricsListener;  // global listener is used if null
 
+    /**
+     * Returns modifiable list of parsed rows. The same list is returned to all callers until rows are
+     * {@link #release() released}, so its changes are visible to other callers.
+     */
     @Override
     public List<RowType> getData() {
         initializeIfNeed();
-        return data;
+        @Nullable List<RowType> rows = getParsedData();
+        // rows are null only if they are released or collected by GC after initialization
+        return (rows != null) ? rows : initialize();
+    }
+
+    /**
+     * Returns parsed rows without blocking. If table parsing is not started, table is parsed by virtual thread
+     * (if supported by JVM) or by common fork-join pool.
+     */
+    public CompletableFuture<List<RowType>> getDataAsync() {
+        return startInitialization(DefaultExecutor.get()).copy();
+    }
+
+    /**
+     * Returns parsed rows without blocking. If table parsing is not started, table is parsed by executor,
+     * otherwise stage is completed with rows parsed by already started parsing.
+     */
+    @Override
+    public CompletionStage<List<RowType>> getDataAsync(Executor executor) {
+        return startInitialization(executor).minimalCompletionStage();
+    }
+
+    /**
+     * Returns already parsed rows or parses table without storing rows in this table.
+     */
+    @Override
+    public Stream<RowType> stream() {
+        @Nullable List<RowType> rows = getParsedData();
+        if (rows != null) {
+            return rows.stream();
+        } else if (initialization.get() != null) {
+            return getData().stream();
+        }
+        try {
+            return streamTable();
+        } catch (BrokerReportParseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BrokerReportParseException("Can't parse report " + report, e);
+        }
+    }
+
+    /**
+     * Starts table parsing in provided executor, {@link #getData()} waits for parsing completion.
+     * Does nothing if table parsing is already started.
+     */
+    protected void initializeAsync(Executor executor) {
+        startInitialization(executor);
     }
 
     protected void initializeIfNeed() {
+        initialize();
+    }
+
+    /**
+     * Drops parsed rows, table is parsed again on next {@link #getData()} call.
+     * Call it after rows consumption to make them available for GC while table is still referenced.
+     * Parsing, which is not completed yet, doesn't store rows, its rows are provided to waiting readers only.
+     */
+    @Override
+    public void release() {
+        releaseLock.lock();
+        try {
+            data = null;
+            softData = null;
+            initialization.set(null);
+        } finally {
+            releaseLock.unlock();
+        }
+    }
+
+    /**
+     * Sets listener of this table metrics instead of global {@link ReportTableMetricsListener}
+     */
+    void setMetricsListener(ReportTableMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Override and return true to hold parsed rows by soft reference. Rows are collected by GC
+     * on memory pressure and table is parsed again on next {@link #getData()} call.
+     */
+    protected boolean isDataSoftReferenced() {
+        return false;
+    }
+
+    private List<RowType> initialize() {
+        @Nullable List<RowType> rows = getParsedData();
+        if (rows != null) {
+            return rows;
+        }
+        // parses table by current thread, if parsing is not started by another thread
+        CompletableFuture<List<RowType>> future = startInitialization(Runnable::run);
         try {
-            if (!initialized) {
-                synchronized (this) {
-                    if (!initialized) {
-                        data.addAll(parseTable());
-                    }
-                    initialized = true;
+            return future.join();
+        } catch (CompletionException e) {
+            @Nullable Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns shared parsing future. Only one thread creates future and parses table.
+     */
+    private CompletableFuture<List<RowType>> startInitialization(Executor executor) {
+        while (true) {
+            @Nullable CompletableFuture<List<RowType>> future = initialization.get();
+            if (future != null) {
+                return future;
+            }
+            @Nullable List<RowType> rows = getParsedData();
+            if (rows != null) {
+                return CompletableFuture.completedFuture(rows);
+            }
+            CompletableFuture<List<RowType>> newFuture = new CompletableFuture<>();
+            if (initialization.compareAndSet(null, newFuture)) {
+                try {
+                    executor.execute(() -> parse(newFuture));
+                } catch (Exception e) {
+                    initialization.compareAndSet(newFuture, null);
+                    newFuture.completeExceptionally(e);
                 }
+                return newFuture;
             }
-        } catch (Exception e) {
-            throw new BrokerReportParseException("Can't parse report " + report, e);
         }
     }
 
+    private void parse(CompletableFuture<List<RowType>> future) {
+        try {
+            List<RowType> rows = parseData();
+            store(rows, future);
+            future.complete(rows);
+        } catch (Throwable e) {
+            initialization.compareAndSet(future, null);  // next data access parses table again
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Stores rows, if table is not released during parsing
+     */
+    private void store(List<RowType> rows, CompletableFuture<List<RowType>> future) {
+        boolean isSoftReferenced = isDataSoftReferenced();
+        releaseLock.lock();
+        try {
+            if (initialization.get() == future) {
+                if (isSoftReferenced) {
+                    softData = new SoftReference<>(rows);
+                } else {
+                    data = rows;
+                }
+                initialization.set(null);  // rows are stored, future is not required anymore
+            }
+        } finally {
+            releaseLock.unlock();
+        }
+    }
+
+    private @Nullable List<RowType> getParsedData() {
+        @Nullable List<RowType> rows = data;
+        if (rows != null) {
+            return rows;
+        }
+        @Nullable SoftReference<List<RowType>> reference = softData;
+        return (reference == null) ? null : reference.get();
+    }
+
+    /**
+     * Reports parsing metrics to {@link ReportTableMetricsListener} and JDK Flight Recorder
+     */
+    private List<RowType> parseData() {
+        @Nullable ReportTableMetricsListener tableListener = metricsListener;
+        ReportTableMetricsListener listener = (tableListener != null) ? tableListener : ParseMetricsRecorder.getListener();
+        return ReportTableParseEvent.record(this, () -> ParseMetricsRecorder.record(this, listener, () -> {
+            try {
+                return new ArrayList<>(parseTable());
+            } catch (BrokerReportParseException e) {
+                throw e;  // already wrapped by subclass
+            } catch (Exception e) {
+                throw new BrokerReportParseException("Can't parse report " + report, e);
+            }
+        }));
+    }
+
     protected abstract Collection<RowType> parseTable();
+
+    /**
+     * Override to parse rows during stream consumption.
+     */
+    protected Stream<RowType> streamTable() {
+        return parseTable().stream();
+    }
 }
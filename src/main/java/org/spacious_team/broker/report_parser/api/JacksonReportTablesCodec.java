@@ -0,0 +1,225 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.broker.report_parser.api.AbstractTransaction.AbstractTransactionBuilder;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Stores report tables as JSON document written by {@link ReportTablesSerializer}. POJOs are serialized
+ * by their Jackson annotations, transactions are stored with type name. Supports {@link SecurityTransaction},
+ * {@link DerivativeTransaction} and {@link ForeignExchangeTransaction} only, their subclasses are not supported.
+ * Requires Jackson 3 in classpath.
+ */
+public class JacksonReportTablesCodec implements ReportTablesCodec {
+    static final int VERSION = 1;
+    static final String VERSION_PROPERTY = "version";
+    static final String ACCOUNT_PROPERTIES = "account-properties";
+    static final String ACCOUNT_CASH = "account-cash";
+    static final String CASH_FLOWS = "cash-flows";
+    static final String SECURITIES = "securities";
+    static final String TRANSACTIONS = "transactions";
+    static final String SECURITY_EVENT_CASH_FLOWS = "security-event-cash-flows";
+    static final String SECURITY_QUOTES = "security-quotes";
+    static final String FOREIGN_EXCHANGE_RATES = "foreign-exchange-rates";
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public JacksonReportTablesCodec() {
+        this(JsonMapper.shared());
+    }
+
+    public JacksonReportTablesCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.rebuild()
+                .addModule(new ReportTablesModule())
+                .build()
+                .writerFor(ReportTables.class)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+        this.reader = objectMapper.readerFor(Snapshot.class)
+                .without(StreamReadFeature.AUTO_CLOSE_SOURCE);
+    }
+
+    /**
+     * Writes rows to output stream during table parsing, see {@link ReportTablesSerializer}.
+     *
+     * @throws IllegalArgumentException if transaction table contains transaction of unsupported type
+     */
+    @Override
+    public void write(ReportTables tables, OutputStream out) throws IOException {
+        try {
+            writer.writeValue(out, tables);
+        } catch (JacksonException e) {
+            throw new IOException("Can't write report tables", e);
+        }
+    }
+
+    @Override
+    public ReportTables read(InputStream in) throws IOException {
+        @Nullable Snapshot snapshot;
+        try {
+            snapshot = reader.readValue(in);
+        } catch (JacksonException e) {
+            throw new IOException("Can't read report tables", e);
+        }
+        if (snapshot == null) {
+            throw new IOException("Report tables are not found");
+        } else if (snapshot.version != VERSION) {
+            throw new IOException("Unsupported report tables version " + snapshot.version);
+        }
+        List<AbstractTransaction> transactions = new ArrayList<>(snapshot.transactions.size());
+        for (TransactionRow row : snapshot.transactions) {
+            transactions.add(row.toTransaction());
+        }
+        return ReportTablesSnapshot.builder()
+                .accountProperties(snapshot.accountProperties)
+                .accountCash(snapshot.accountCash)
+                .cashFlows(snapshot.cashFlows)
+                .securities(snapshot.securities)
+                .transactions(transactions)
+                .securityEventCashFlows(snapshot.securityEventCashFlows)
+                .securityQuotes(snapshot.securityQuotes)
+                .foreignExchangeRates(snapshot.foreignExchangeRates)
+                .build();
+    }
+
+
+    static class Snapshot {
+        @JsonProperty(VERSION_PROPERTY)
+        int version;
+        @JsonProperty(ACCOUNT_PROPERTIES)
+        List<AccountProperty> accountProperties = new ArrayList<>();
+        @JsonProperty(ACCOUNT_CASH)
+        List<AccountCash> accountCash = new ArrayList<>();
+        @JsonProperty(CASH_FLOWS)
+        List<EventCashFlow> cashFlows = new ArrayList<>();
+        @JsonProperty(SECURITIES)
+        List<Security> securities = new ArrayList<>();
+        @JsonProperty(TRANSACTIONS)
+        List<TransactionRow> transactions = new ArrayList<>();
+        @JsonProperty(SECURITY_EVENT_CASH_FLOWS)
+        List<SecurityEventCashFlow> securityEventCashFlows = new ArrayList<>();
+        @JsonProperty(SECURITY_QUOTES)
+        List<SecurityQuote> securityQuotes = new ArrayList<>();
+        @JsonProperty(FOREIGN_EXCHANGE_RATES)
+        List<ForeignExchangeRate> foreignExchangeRates = new ArrayList<>();
+    }
+
+
+    @JsonInclude(NON_NULL)
+    @SuppressWarnings("initialization.field.uninitialized")
+    static class TransactionRow {
+        @JsonProperty("type")
+        String type;
+        @JsonProperty("id")
+        Integer id;
+        @JsonProperty("trade-id")
+        String tradeId;
+        @JsonProperty("account")
+        String account;
+        @JsonProperty("security")
+        int security;
+        @JsonProperty("timestamp")
+        Instant timestamp;
+        @JsonProperty("count")
+        int count;
+        @JsonProperty("value")
+        @Nullable BigDecimal value;
+        @JsonProperty("fee")
+        @Nullable BigDecimal fee;
+        @JsonProperty("value-currency")
+        @Nullable String valueCurrency;
+        @JsonProperty("fee-currency")
+        @Nullable String feeCurrency;
+        @JsonProperty("accrued-interest")
+        @Nullable BigDecimal accruedInterest;
+        @JsonProperty("value-in-points")
+        @Nullable BigDecimal valueInPoints;
+
+        static TransactionRow of(AbstractTransaction transaction) {
+            TransactionRow row = new TransactionRow();
+            TransactionType type = TransactionType.of(transaction);
+            row.type = type.getJsonName();
+            if (type == TransactionType.SECURITY) {
+                row.accruedInterest = type.getTypeSpecificAmount(transaction);
+            } else if (type == TransactionType.DERIVATIVE) {
+                row.valueInPoints = type.getTypeSpecificAmount(transaction);
+            }
+            row.id = transaction.getId();
+            row.tradeId = transaction.getTradeId();
+            row.account = transaction.getAccount();
+            row.security = transaction.getSecurity();
+            row.timestamp = transaction.getTimestamp();
+            row.count = transaction.getCount();
+            row.value = transaction.getValue();
+            row.fee = transaction.getFee();
+            row.valueCurrency = transaction.getValueCurrency();
+            row.feeCurrency = transaction.getFeeCurrency();
+            return row;
+        }
+
+        AbstractTransaction toTransaction() throws IOException {
+            TransactionType transactionType;
+            try {
+                transactionType = TransactionType.ofJsonName(type);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            AbstractTransactionBuilder<?, ?> builder = transactionType.newBuilder()
+                    .id(id)
+                    .tradeId(tradeId)
+                    .account(account)
+                    .security(security)
+                    .timestamp(timestamp)
+                    .count(count)
+                    .value(value)
+                    .fee(fee)
+                    .valueCurrency(valueCurrency)
+                    .feeCurrency(feeCurrency);
+            transactionType.setTypeSpecificAmount(builder,
+                    (transactionType == TransactionType.SECURITY) ? accruedInterest : valueInPoints);
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.Dictionary;
+import org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.RowCodec;
+import org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.RowWriter;
+import org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.SectionWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.HEADER_SIZE;
+import static org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.MAGIC;
+import static org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.TABLE_COUNT;
+import static org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.VERSION;
+
+/**
+ * Stores report tables in fixed layout format, each table row has fixed size (see {@link MappedSnapshotFormat}).
+ * Snapshot file is memory-mapped by {@link MappedSnapshotReportTables#open(Path)}, row is decoded on access
+ * without decoding other rows. Snapshot is larger than {@link BinaryReportTablesCodec binary snapshot},
+ * use it if only some rows of huge tables are read. Snapshot size is limited by 2 GB.
+ * <p>
+ * Supports {@link SecurityTransaction}, {@link DerivativeTransaction} and {@link ForeignExchangeTransaction}
+ * only, their subclasses are not supported.
+ */
+public class MappedReportTablesCodec implements ReportTablesCodec {
+    private static final int CHUNK_SIZE = 64 * 1024;  // exceeds size of row and header
+
+    /**
+     * Writes snapshot file, which can be opened by {@link MappedSnapshotReportTables#open(Path)}.
+     *
+     * @throws IllegalArgumentException if transaction table contains transaction of unsupported type
+     */
+    public void write(ReportTables tables, Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(tables, out);
+        }
+    }
+
+    /**
+     * Writes tables to output stream by chunks, snapshot is not built in heap.
+     * Output stream may contain incomplete snapshot, if exception is thrown.
+     *
+     * @throws IllegalArgumentException if transaction table contains transaction of unsupported type
+     * @throws ArithmeticException      if snapshot size exceeds 2 GB
+     */
+    @Override
+    public void write(ReportTables tables, OutputStream out) throws IOException {
+        List<?>[] tablesData = {
+                tables.getAccountPropertyTable().getData(),
+                tables.getAccountCashTable().getData(),
+                tables.getCashFlowTable().getData(),
+                tables.getSecuritiesTable().getData(),
+                tables.getTransactionTable().getData(),
+                tables.getSecurityEventCashFlowTable().getData(),
+                tables.getSecurityQuoteTable().getData(),
+                tables.getForeignExchangeRateTable().getData()
+        };
+        RowCodec<?>[] codecs = MappedSnapshotReportTables.getRowCodecs();
+        SectionWriter output = new SectionWriter(Channels.newChannel(out), CHUNK_SIZE);
+        ByteBuffer header = output.reserve(HEADER_SIZE)
+                .put(MAGIC)
+                .putInt(VERSION)
+                .putInt(TABLE_COUNT);
+        int size = HEADER_SIZE;
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            header.putLong(size)
+                    .putInt(tablesData[i].size())
+                    .putInt(codecs[i].getRowSize());
+            size = Math.addExact(size, Math.multiplyExact(tablesData[i].size(), codecs[i].getRowSize()));
+        }
+        header.putLong(size);  // dictionary offset
+        RowWriter writer = new RowWriter(output.getChunk());
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            writeTable(tablesData[i], codecs[i], writer, output);
+        }
+        List<String> dictionary = writer.getDictionary();
+        int[] stringEnds = Dictionary.getStringEnds(dictionary);
+        size = Math.addExact(size, Dictionary.getSize(stringEnds));  // checks snapshot size
+        Dictionary.write(dictionary, stringEnds, output);
+        if (output.position() != size) {
+            throw new IllegalStateException("Unexpected snapshot size " + output.position() + ", expected " + size);
+        }
+        output.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeTable(List<?> rows, RowCodec<T> codec, RowWriter writer, SectionWriter output)
+            throws IOException {
+        int rowSize = codec.getRowSize();
+        for (Object row : rows) {
+            output.reserve(rowSize);
+            int position = writer.position();
+            codec.write((T) row, writer);
+            if (writer.position() - position != rowSize) {
+                throw new IllegalStateException("Unexpected row size " + (writer.position() - position) +
+                        ", expected " + rowSize);
+            }
+        }
+    }
+
+    /**
+     * Returns lazy tables. Content of {@link ByteBufferInputStream} is not copied.
+     *
+     * @throws IOException if input stream can't be read or snapshot header is corrupted
+     */
+    @Override
+    public MappedSnapshotReportTables read(InputStream in) throws IOException {
+        ByteBuffer snapshot = (in instanceof ByteBufferInputStream) ?
+                ((ByteBufferInputStream) in).getRemainingBytes() :
+                ByteBuffer.wrap(in.readAllBytes());
+        return MappedSnapshotReportTables.of(snapshot);
+    }
+}
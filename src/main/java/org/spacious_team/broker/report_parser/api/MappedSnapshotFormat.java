@@ -0,0 +1,574 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.broker.report_parser.api.AbstractTransaction.AbstractTransactionBuilder;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.AccountPropertyType;
+import org.spacious_team.broker.pojo.CashFlowType;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+import org.spacious_team.broker.pojo.SecurityType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed layout of {@link MappedSnapshotReportTables} file. Each table row has fixed size, so row is found
+ * by row index without reading other rows. All numbers are big-endian.
+ * <p>
+ * File starts with header: magic bytes {@code BRPM}, format version, table count, offset, row count and row size
+ * of each table and dictionary offset. Tables follow header in {@link ReportTables} getters order.
+ * Dictionary follows tables: string count, string end offsets and UTF-8 bytes of strings.
+ * <p>
+ * Field layouts:
+ * nullable int - long, {@link Long#MIN_VALUE} is null;
+ * string and enum - int dictionary code, -1 is null;
+ * cash flow type - int id, -1 is null;
+ * timestamp - long epoch second and int nanos, -1 nanos is null;
+ * date - long epoch day, {@link Long#MIN_VALUE} is null;
+ * decimal - long unscaled value and int scale, {@link Integer#MIN_VALUE} scale is null,
+ * {@link Integer#MAX_VALUE} scale means that long is dictionary code of decimal string.
+ */
+final class MappedSnapshotFormat {
+    static final byte[] MAGIC = {'B', 'R', 'P', 'M'};
+    static final int VERSION = 1;
+    static final int TABLE_COUNT = 8;
+    static final int TABLE_ENTRY_SIZE = Long.BYTES + 2 * Integer.BYTES;
+    static final int HEADER_SIZE = MAGIC.length + 2 * Integer.BYTES + TABLE_COUNT * TABLE_ENTRY_SIZE + Long.BYTES;
+
+    private static final int NULLABLE_INT_SIZE = Long.BYTES;
+    private static final int INT_SIZE = Integer.BYTES;
+    private static final int STRING_SIZE = Integer.BYTES;
+    private static final int TIMESTAMP_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int DATE_SIZE = Long.BYTES;
+    private static final int DECIMAL_SIZE = Long.BYTES + Integer.BYTES;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+    private static final int NULL_SCALE = Integer.MIN_VALUE;
+    private static final int NON_COMPACT_SCALE = Integer.MAX_VALUE;
+
+    private MappedSnapshotFormat() {
+    }
+
+    interface RowCodec<T> {
+        int getRowSize();
+
+        void write(T row, RowWriter writer);
+
+        T read(RowReader reader);
+    }
+
+    static final RowCodec<AccountProperty> ACCOUNT_PROPERTY = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return NULLABLE_INT_SIZE + STRING_SIZE + TIMESTAMP_SIZE + STRING_SIZE + STRING_SIZE;
+        }
+
+        @Override
+        public void write(AccountProperty property, RowWriter writer) {
+            SnapshotRows.write(property, writer);
+        }
+
+        @Override
+        @SuppressWarnings("nullness")  // not null fields are written not null
+        public AccountProperty read(RowReader reader) {
+            return AccountProperty.builder()
+                    .id(reader.getNullableInt())
+                    .account(reader.getString())
+                    .timestamp(reader.getInstant())
+                    .property(AccountPropertyType.valueOf(reader.getString()))
+                    .value(reader.getString())
+                    .build();
+        }
+    };
+
+    static final RowCodec<AccountCash> ACCOUNT_CASH = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return NULLABLE_INT_SIZE + STRING_SIZE + TIMESTAMP_SIZE + STRING_SIZE + DECIMAL_SIZE + STRING_SIZE;
+        }
+
+        @Override
+        public void write(AccountCash cash, RowWriter writer) {
+            SnapshotRows.write(cash, writer);
+        }
+
+        @Override
+        @SuppressWarnings("nullness")
+        public AccountCash read(RowReader reader) {
+            return AccountCash.builder()
+                    .id(reader.getNullableInt())
+                    .account(reader.getString())
+                    .timestamp(reader.getInstant())
+                    .market(reader.getString())
+                    .value(reader.getDecimal())
+                    .currency(reader.getString())
+                    .build();
+        }
+    };
+
+    static final RowCodec<EventCashFlow> EVENT_CASH_FLOW = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return NULLABLE_INT_SIZE + STRING_SIZE + TIMESTAMP_SIZE + INT_SIZE + DECIMAL_SIZE + STRING_SIZE + STRING_SIZE;
+        }
+
+        @Override
+        public void write(EventCashFlow cashFlow, RowWriter writer) {
+            SnapshotRows.write(cashFlow, writer);
+        }
+
+        @Override
+        @SuppressWarnings("nullness")
+        public EventCashFlow read(RowReader reader) {
+            return EventCashFlow.builder()
+                    .id(reader.getNullableInt())
+                    .account(reader.getString())
+                    .timestamp(reader.getInstant())
+                    .eventType(reader.getCashFlowType())
+                    .value(reader.getDecimal())
+                    .currency(reader.getString())
+                    .description(reader.getString())
+                    .build();
+        }
+    };
+
+    static final RowCodec<Security> SECURITY = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return NULLABLE_INT_SIZE + 4 * STRING_SIZE;
+        }
+
+        @Override
+        public void write(Security security, RowWriter writer) {
+            SnapshotRows.write(security, writer);
+        }
+
+        @Override
+        @SuppressWarnings("nullness")
+        public Security read(RowReader reader) {
+            return Security.builder()
+                    .id(reader.getNullableInt())
+                    .type(SecurityType.valueOf(reader.getString()))
+                    .isin(reader.getString())
+                    .ticker(reader.getString())
+                    .name(reader.getString())
+                    .build();
+        }
+    };
+
+    /**
+     * Supports {@link SecurityTransaction}, {@link DerivativeTransaction} and {@link ForeignExchangeTransaction},
+     * throws {@link IllegalArgumentException} for other types
+     */
+    static final RowCodec<AbstractTransaction> TRANSACTION = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return INT_SIZE + NULLABLE_INT_SIZE + 2 * STRING_SIZE + INT_SIZE + TIMESTAMP_SIZE + INT_SIZE +
+                    2 * DECIMAL_SIZE + 2 * STRING_SIZE + DECIMAL_SIZE;
+        }
+
+        @Override
+        public void write(AbstractTransaction transaction, RowWriter writer) {
+            TransactionType type = TransactionType.of(transaction);
+            writer.putInt(type.getId());
+            SnapshotRows.write(transaction, writer);
+            writer.putDecimal(type.getTypeSpecificAmount(transaction));  // null is written for fixed row size
+        }
+
+        @Override
+        @SuppressWarnings("nullness")
+        public AbstractTransaction read(RowReader reader) {
+            TransactionType type = TransactionType.ofId(reader.getInt());
+            AbstractTransactionBuilder<?, ?> builder = type.newBuilder()
+                    .id(reader.getNullableInt())
+                    .tradeId(reader.getString())
+                    .account(reader.getString())
+                    .security(reader.getInt())
+                    .timestamp(reader.getInstant())
+                    .count(reader.getInt())
+                    .value(reader.getDecimal())
+                    .fee(reader.getDecimal())
+                    .valueCurrency(reader.getString())
+                    .feeCurrency(reader.getString());
+            type.setTypeSpecificAmount(builder, reader.getDecimal());
+            return builder.build();
+        }
+    };
+
+    static final RowCodec<SecurityEventCashFlow> SECURITY_EVENT_CASH_FLOW = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return NULLABLE_INT_SIZE + STRING_SIZE + TIMESTAMP_SIZE + INT_SIZE + NULLABLE_INT_SIZE + INT_SIZE +
+                    DECIMAL_SIZE + STRING_SIZE;
+        }
+
+        @Override
+        public void write(SecurityEventCashFlow cashFlow, RowWriter writer) {
+            SnapshotRows.write(cashFlow, writer);
+        }
+
+        @Override
+        @SuppressWarnings("nullness")
+        public SecurityEventCashFlow read(RowReader reader) {
+            return SecurityEventCashFlow.builder()
+                    .id(reader.getNullableInt())
+                    .account(reader.getString())
+                    .timestamp(reader.getInstant())
+                    .security(reader.getInt())
+                    .count(reader.getNullableInt())
+                    .eventType(reader.getCashFlowType())
+                    .value(reader.getDecimal())
+                    .currency(reader.getString())
+                    .build();
+        }
+    };
+
+    static final RowCodec<SecurityQuote> SECURITY_QUOTE = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return NULLABLE_INT_SIZE + INT_SIZE + TIMESTAMP_SIZE + 3 * DECIMAL_SIZE + STRING_SIZE;
+        }
+
+        @Override
+        public void write(SecurityQuote quote, RowWriter writer) {
+            SnapshotRows.write(quote, writer);
+        }
+
+        @Override
+        @SuppressWarnings("nullness")
+        public SecurityQuote read(RowReader reader) {
+            return SecurityQuote.builder()
+                    .id(reader.getNullableInt())
+                    .security(reader.getInt())
+                    .timestamp(reader.getInstant())
+                    .quote(reader.getDecimal())
+                    .price(reader.getDecimal())
+                    .accruedInterest(reader.getDecimal())
+                    .currency(reader.getString())
+                    .build();
+        }
+    };
+
+    static final RowCodec<ForeignExchangeRate> FOREIGN_EXCHANGE_RATE = new RowCodec<>() {
+        @Override
+        public int getRowSize() {
+            return DATE_SIZE + STRING_SIZE + DECIMAL_SIZE;
+        }
+
+        @Override
+        public void write(ForeignExchangeRate rate, RowWriter writer) {
+            SnapshotRows.write(rate, writer);
+        }
+
+        @Override
+        @SuppressWarnings("nullness")
+        public ForeignExchangeRate read(RowReader reader) {
+            return ForeignExchangeRate.builder()
+                    .date(reader.getDate())
+                    .currencyPair(reader.getString())
+                    .rate(reader.getDecimal())
+                    .build();
+        }
+    };
+
+
+    /**
+     * Writes fields to buffer sequentially, strings are written to dictionary
+     */
+    @RequiredArgsConstructor
+    static class RowWriter implements SnapshotFieldWriter {
+        private final ByteBuffer buffer;
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+
+        @Override
+        public void putInt(int value) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public void putNullableInt(@Nullable Integer value) {
+            buffer.putLong((value == null) ? NULL_LONG : value);
+        }
+
+        @Override
+        public void putString(@Nullable String value) {
+            buffer.putInt((value == null) ? NULL_CODE : getCode(value));
+        }
+
+        @Override
+        public void putCashFlowType(@Nullable CashFlowType type) {
+            buffer.putInt((type == null) ? NULL_CODE : type.getId());
+        }
+
+        @Override
+        public void putInstant(@Nullable Instant value) {
+            if (value == null) {
+                buffer.putLong(0).putInt(NULL_CODE);
+            } else {
+                buffer.putLong(value.getEpochSecond()).putInt(value.getNano());
+            }
+        }
+
+        @Override
+        public void putDate(@Nullable LocalDate value) {
+            buffer.putLong((value == null) ? NULL_LONG : value.toEpochDay());
+        }
+
+        @Override
+        public void putDecimal(@Nullable BigDecimal value) {
+            if (value == null) {
+                buffer.putLong(0).putInt(NULL_SCALE);
+                return;
+            }
+            BigInteger unscaledValue = value.unscaledValue();
+            int scale = value.scale();
+            if (unscaledValue.bitLength() < Long.SIZE && scale != NULL_SCALE && scale != NON_COMPACT_SCALE) {
+                buffer.putLong(unscaledValue.longValue()).putInt(scale);
+            } else {
+                buffer.putLong(getCode(value.toString())).putInt(NON_COMPACT_SCALE);
+            }
+        }
+
+        private int getCode(String value) {
+            return codes.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        int position() {
+            return buffer.position();
+        }
+
+        List<String> getDictionary() {
+            return dictionary;
+        }
+    }
+
+
+    /**
+     * Writes snapshot sections to channel by chunks, so snapshot is not built in heap
+     */
+    static class SectionWriter {
+        private final WritableByteChannel channel;
+        private final ByteBuffer chunk;
+        private long flushedBytes = 0;
+
+        SectionWriter(WritableByteChannel channel, int chunkSize) {
+            this.channel = channel;
+            this.chunk = ByteBuffer.allocate(chunkSize);
+        }
+
+        /**
+         * Flushes chunk if it hasn't {@code size} bytes remaining
+         *
+         * @return chunk to put {@code size} bytes to
+         */
+        ByteBuffer reserve(int size) throws IOException {
+            if (chunk.remaining() < size) {
+                flush();
+            }
+            return chunk;
+        }
+
+        void write(byte[] bytes) throws IOException {
+            if (bytes.length <= chunk.capacity()) {
+                reserve(bytes.length).put(bytes);
+            } else {
+                flush();
+                writeFully(ByteBuffer.wrap(bytes));
+            }
+        }
+
+        void flush() throws IOException {
+            writeFully(chunk.flip());
+            chunk.clear();
+        }
+
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            flushedBytes += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        /**
+         * @return count of bytes written to chunk and channel
+         */
+        long position() {
+            return flushedBytes + chunk.position();
+        }
+
+        ByteBuffer getChunk() {
+            return chunk;
+        }
+    }
+
+
+    /**
+     * Reads fields of one row sequentially by absolute buffer access, so buffer may be shared by threads
+     */
+    static class RowReader {
+        private final ByteBuffer buffer;
+        private final Dictionary dictionary;
+        private int position;
+
+        RowReader(ByteBuffer buffer, Dictionary dictionary, int position) {
+            this.buffer = buffer;
+            this.dictionary = dictionary;
+            this.position = position;
+        }
+
+        int getInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        long getLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        @Nullable Integer getNullableInt() {
+            long value = getLong();
+            return (value == NULL_LONG) ? null : Math.toIntExact(value);
+        }
+
+        @Nullable String getString() {
+            int code = getInt();
+            return (code == NULL_CODE) ? null : dictionary.get(code);
+        }
+
+        @Nullable CashFlowType getCashFlowType() {
+            int id = getInt();
+            return (id == NULL_CODE) ? null : CashFlowType.valueOf(id);
+        }
+
+        @Nullable Instant getInstant() {
+            long epochSecond = getLong();
+            int nanos = getInt();
+            return (nanos == NULL_CODE) ? null : Instant.ofEpochSecond(epochSecond, nanos);
+        }
+
+        @Nullable LocalDate getDate() {
+            long epochDay = getLong();
+            return (epochDay == NULL_LONG) ? null : LocalDate.ofEpochDay(epochDay);
+        }
+
+        @Nullable BigDecimal getDecimal() {
+            long unscaledValue = getLong();
+            int scale = getInt();
+            if (scale == NULL_SCALE) {
+                return null;
+            } else if (scale == NON_COMPACT_SCALE) {
+                return new BigDecimal(dictionary.get(Math.toIntExact(unscaledValue)));
+            }
+            return BigDecimal.valueOf(unscaledValue, scale);
+        }
+    }
+
+
+    /**
+     * Decodes string on first access
+     */
+    static class Dictionary {
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int stringsOffset;
+        private final @Nullable String[] strings;
+
+        /**
+         * @param buffer dictionary bytes from position 0
+         */
+        Dictionary(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.count = buffer.getInt(0);
+            this.stringsOffset = Math.addExact(Integer.BYTES, Math.multiplyExact(count, Integer.BYTES));
+            if (count < 0 || stringsOffset > buffer.limit()) {
+                throw new IllegalArgumentException("Illegal dictionary size " + count);
+            }
+            this.strings = new String[count];
+        }
+
+        /**
+         * @return end offset of each string in dictionary bytes
+         */
+        static int[] getStringEnds(List<String> dictionary) {
+            int[] ends = new int[dictionary.size()];
+            int end = 0;
+            for (int i = 0; i < ends.length; i++) {
+                end = Math.addExact(end, dictionary.get(i).getBytes(StandardCharsets.UTF_8).length);
+                ends[i] = end;
+            }
+            return ends;
+        }
+
+        static int getSize(int[] stringEnds) {
+            int stringsSize = (stringEnds.length == 0) ? 0 : stringEnds[stringEnds.length - 1];
+            return Math.addExact(Integer.BYTES + stringEnds.length * Integer.BYTES, stringsSize);
+        }
+
+        static void write(List<String> dictionary, int[] stringEnds, SectionWriter output) throws IOException {
+            output.reserve(Integer.BYTES).putInt(dictionary.size());
+            for (int end : stringEnds) {
+                output.reserve(Integer.BYTES).putInt(end);
+            }
+            for (String string : dictionary) {
+                output.write(string.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        /**
+         * Strings are immutable, so concurrent decoding of the same string is safe
+         */
+        String get(int code) {
+            @Nullable String string = strings[code];
+            if (string == null) {
+                int start = (code == 0) ? 0 : buffer.getInt(Integer.BYTES * code);
+                int end = buffer.getInt(Integer.BYTES * (code + 1));
+                byte[] bytes = new byte[end - start];
+                buffer.get(stringsOffset + start, bytes);
+                string = new String(bytes, StandardCharsets.UTF_8);
+                strings[code] = string;
+            }
+            return string;
+        }
+    }
+}
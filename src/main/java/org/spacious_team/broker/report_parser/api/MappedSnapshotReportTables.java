@@ -0,0 +1,208 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Getter;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+import org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.Dictionary;
+import org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.RowCodec;
+import org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.RowReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.MAGIC;
+import static org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.TABLE_COUNT;
+import static org.spacious_team.broker.report_parser.api.MappedSnapshotFormat.VERSION;
+
+/**
+ * Report tables of {@link MappedReportTablesCodec fixed layout snapshot}. Only snapshot header is read on creation.
+ * Table data is a lazy list, row is decoded from snapshot bytes on each {@link List#get(int)} call,
+ * so reading of some rows doesn't decode the whole table. Rows are not cached, store decoded rows
+ * if they are required more than once.
+ */
+@Getter
+public class MappedSnapshotReportTables implements ReportTables {
+    private final BrokerReport report = ReportTablesSnapshot.SnapshotBrokerReport.INSTANCE;
+    private final ReportTable<AccountProperty> accountPropertyTable;
+    private final ReportTable<AccountCash> accountCashTable;
+    private final ReportTable<EventCashFlow> cashFlowTable;
+    private final ReportTable<Security> securitiesTable;
+    private final ReportTable<AbstractTransaction> transactionTable;
+    private final ReportTable<SecurityEventCashFlow> securityEventCashFlowTable;
+    private final ReportTable<SecurityQuote> securityQuoteTable;
+    private final ReportTable<ForeignExchangeRate> foreignExchangeRateTable;
+
+    private MappedSnapshotReportTables(ByteBuffer snapshot, int[] offsets, int[] rowCounts, Dictionary dictionary) {
+        this.accountPropertyTable = new MappedTable<>(report, snapshot, offsets[0], rowCounts[0], dictionary,
+                MappedSnapshotFormat.ACCOUNT_PROPERTY);
+        this.accountCashTable = new MappedTable<>(report, snapshot, offsets[1], rowCounts[1], dictionary,
+                MappedSnapshotFormat.ACCOUNT_CASH);
+        this.cashFlowTable = new MappedTable<>(report, snapshot, offsets[2], rowCounts[2], dictionary,
+                MappedSnapshotFormat.EVENT_CASH_FLOW);
+        this.securitiesTable = new MappedTable<>(report, snapshot, offsets[3], rowCounts[3], dictionary,
+                MappedSnapshotFormat.SECURITY);
+        this.transactionTable = new MappedTable<>(report, snapshot, offsets[4], rowCounts[4], dictionary,
+                MappedSnapshotFormat.TRANSACTION);
+        this.securityEventCashFlowTable = new MappedTable<>(report, snapshot, offsets[5], rowCounts[5], dictionary,
+                MappedSnapshotFormat.SECURITY_EVENT_CASH_FLOW);
+        this.securityQuoteTable = new MappedTable<>(report, snapshot, offsets[6], rowCounts[6], dictionary,
+                MappedSnapshotFormat.SECURITY_QUOTE);
+        this.foreignExchangeRateTable = new MappedTable<>(report, snapshot, offsets[7], rowCounts[7], dictionary,
+                MappedSnapshotFormat.FOREIGN_EXCHANGE_RATE);
+    }
+
+    /**
+     * Opens memory-mapped snapshot file, file content is not copied to heap.
+     *
+     * @throws BrokerReportParseException if file can't be read or snapshot header is corrupted
+     */
+    public static MappedSnapshotReportTables open(Path path) {
+        try {
+            return of(ByteBufferInputStream.of(path).getRemainingBytes());
+        } catch (IOException e) {
+            throw new BrokerReportParseException("Can't read snapshot " + path, e);
+        }
+    }
+
+    /**
+     * @param snapshot bytes from current position to limit, buffer should not be modified after call
+     * @throws IOException if snapshot header is corrupted or snapshot version is not supported
+     */
+    static MappedSnapshotReportTables of(ByteBuffer snapshot) throws IOException {
+        ByteBuffer buffer = snapshot.slice();
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new IOException("Not a report tables snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported report tables snapshot version " + version);
+            }
+            int tableCount = buffer.getInt();
+            if (tableCount != TABLE_COUNT) {
+                throw new IOException("Unexpected table count " + tableCount);
+            }
+            int[] offsets = new int[TABLE_COUNT];
+            int[] rowCounts = new int[TABLE_COUNT];
+            RowCodec<?>[] codecs = getRowCodecs();
+            for (int i = 0; i < TABLE_COUNT; i++) {
+                offsets[i] = Math.toIntExact(buffer.getLong());
+                rowCounts[i] = buffer.getInt();
+                int rowSize = buffer.getInt();
+                if (rowSize != codecs[i].getRowSize()) {
+                    throw new IOException("Unexpected row size " + rowSize + " of table " + i);
+                }
+                // checks table bounds
+                Objects.checkFromIndexSize(offsets[i], Math.multiplyExact(rowCounts[i], rowSize), buffer.limit());
+            }
+            int dictionaryOffset = Math.toIntExact(buffer.getLong());
+            Dictionary dictionary = new Dictionary(buffer.slice(dictionaryOffset, buffer.limit() - dictionaryOffset));
+            return new MappedSnapshotReportTables(buffer, offsets, rowCounts, dictionary);
+        } catch (RuntimeException e) {
+            throw new IOException("Report tables snapshot is corrupted", e);
+        }
+    }
+
+    /**
+     * @return row codecs in {@link ReportTables} getters order
+     */
+    static RowCodec<?>[] getRowCodecs() {
+        return new RowCodec<?>[]{
+                MappedSnapshotFormat.ACCOUNT_PROPERTY,
+                MappedSnapshotFormat.ACCOUNT_CASH,
+                MappedSnapshotFormat.EVENT_CASH_FLOW,
+                MappedSnapshotFormat.SECURITY,
+                MappedSnapshotFormat.TRANSACTION,
+                MappedSnapshotFormat.SECURITY_EVENT_CASH_FLOW,
+                MappedSnapshotFormat.SECURITY_QUOTE,
+                MappedSnapshotFormat.FOREIGN_EXCHANGE_RATE
+        };
+    }
+
+
+    @Getter
+    private static class MappedTable<RowType> implements ReportTable<RowType> {
+        private final BrokerReport report;
+        private final List<RowType> data;
+
+        private MappedTable(BrokerReport report, ByteBuffer snapshot, int offset, int rowCount,
+                            Dictionary dictionary, RowCodec<RowType> rowCodec) {
+            this.report = report;
+            this.data = new MappedRowList<>(snapshot, offset, rowCount, dictionary, rowCodec);
+        }
+
+        @Override
+        public CompletionStage<List<RowType>> getDataAsync(Executor executor) {
+            return CompletableFuture.completedStage(data);
+        }
+    }
+
+
+    /**
+     * Immutable list, decodes row on each access. Rows are read by absolute buffer access,
+     * so list can be used by many threads.
+     */
+    private static class MappedRowList<RowType> extends AbstractList<RowType>
+            implements ImmutableRandomAccessList<RowType> {
+        private final ByteBuffer snapshot;
+        private final int offset;
+        private final int rowCount;
+        private final Dictionary dictionary;
+        private final RowCodec<RowType> rowCodec;
+        private final int rowSize;
+
+        private MappedRowList(ByteBuffer snapshot, int offset, int rowCount,
+                              Dictionary dictionary, RowCodec<RowType> rowCodec) {
+            this.snapshot = snapshot;
+            this.offset = offset;
+            this.rowCount = rowCount;
+            this.dictionary = dictionary;
+            this.rowCodec = rowCodec;
+            this.rowSize = rowCodec.getRowSize();
+        }
+
+        @Override
+        public RowType get(int index) {
+            Objects.checkIndex(index, rowCount);
+            return rowCodec.read(new RowReader(snapshot, dictionary, offset + index * rowSize));
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Collects metrics of report table parsed by current thread and reports them to listener of table or global
+ * {@link ReportTableMetricsListener}. Nothing is collected if listener is {@link ReportTableMetricsListener#NO_OP}.
+ */
+final class ParseMetricsRecorder {
+    private static volatile ReportTableMetricsListener listener = ReportTableMetricsListener.NO_OP;
+    private static final ThreadLocal<@Nullable ParseMetricsRecorder> current = new ThreadLocal<>();
+    private final ReportTable<?> table;
+    private int mergedRowCount;
+    private int droppedRowCount;
+
+    private ParseMetricsRecorder(ReportTable<?> table) {
+        this.table = table;
+    }
+
+    static void setListener(ReportTableMetricsListener listener) {
+        ParseMetricsRecorder.listener = listener;
+    }
+
+    static ReportTableMetricsListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Parses table by parser and reports metrics to global listener
+     */
+    static <T> List<T> record(ReportTable<?> table, Supplier<List<T>> parser) {
+        return record(table, ParseMetricsRecorder.listener, parser);
+    }
+
+    /**
+     * Parses table by parser and reports metrics to provided listener
+     */
+    static <T> List<T> record(ReportTable<?> table, ReportTableMetricsListener listener, Supplier<List<T>> parser) {
+        if (listener == ReportTableMetricsListener.NO_OP) {
+            return parser.get();
+        }
+        @Nullable ParseMetricsRecorder parent = current.get();  // nested table parsing
+        ParseMetricsRecorder recorder = new ParseMetricsRecorder(table);
+        current.set(recorder);
+        long start = System.nanoTime();
+        boolean isSuccessful = false;
+        int rowCount = 0;
+        try {
+            List<T> rows = parser.get();
+            isSuccessful = true;
+            rowCount = rows.size();
+            return rows;
+        } finally {
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            if (parent == null) {
+                current.remove();
+            } else {
+                current.set(parent);
+            }
+            recorder.report(listener, duration, isSuccessful, rowCount);
+        }
+    }
+
+    /**
+     * @return recorder, if table is parsed by current thread and metrics are collected, otherwise null
+     */
+    static @Nullable ParseMetricsRecorder current(ReportTable<?> table) {
+        @Nullable ParseMetricsRecorder recorder = current.get();
+        return (recorder != null && recorder.table == table) ? recorder : null;
+    }
+
+    /**
+     * @param rows result of one table row parsing
+     */
+    <T> Collection<T> countDropped(Collection<T> rows) {
+        if (rows.isEmpty()) {
+            droppedRowCount++;
+        }
+        return rows;
+    }
+
+    /**
+     * @param rows result of two rows merging
+     */
+    <T> Collection<T> countMerged(Collection<T> rows) {
+        mergedRowCount += Math.max(0, 2 - rows.size());
+        return rows;
+    }
+
+    private void report(ReportTableMetricsListener listener, Duration duration, boolean isSuccessful, int rowCount) {
+        try {
+            listener.onTableParsed(ReportTableMetrics.builder()
+                    .tableType(table.getClass())
+                    .reportType(table.getReport().getClass())
+                    .duration(duration)
+                    .successful(isSuccessful)
+                    .rowCount(rowCount)
+                    .mergedRowCount(mergedRowCount)
+                    .droppedRowCount(droppedRowCount)
+                    .build());
+        } catch (Exception ignore) {
+            // metrics listener doesn't affect table parsing
+        }
+    }
+}
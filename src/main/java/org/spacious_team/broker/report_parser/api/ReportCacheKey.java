@@ -0,0 +1,94 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Identifies parsed report tables by report content and factory version. Report content is hashed by streaming,
+ * so report file is read once and is not opened by {@link BrokerReportFactory}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public class ReportCacheKey {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Hex encoded hash of factory version and report content, can be used as file name
+     */
+    private final String id;
+
+    /**
+     * Reads input stream to the end and returns key.
+     *
+     * @param factoryVersion version of report tables parser, change it to invalidate cached tables
+     * @throws BrokerReportParseException if input stream can't be read
+     */
+    public static ReportCacheKey of(InputStream is, String factoryVersion) {
+        MessageDigest digest = createDigest();
+        digest.update(factoryVersion.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);  // separates version from content
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+            int length;
+            while ((length = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+        } catch (IOException e) {
+            throw new BrokerReportParseException("Can't read input stream", e);
+        }
+        return new ReportCacheKey(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * @throws BrokerReportParseException if file can't be read
+     */
+    public static ReportCacheKey of(Path path, String factoryVersion) {
+        try (InputStream is = Files.newInputStream(path)) {
+            return of(is, factoryVersion);
+        } catch (IOException e) {
+            throw new BrokerReportParseException("Can't read file " + path, e);
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported by JVM", e);
+        }
+    }
+}
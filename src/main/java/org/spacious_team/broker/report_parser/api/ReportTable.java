@@ -19,8 +19,33 @@
 package org.spacious_team.broker.report_parser.api;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public interface ReportTable<RowType> {
     BrokerReport getReport();
     List<RowType> getData();
+
+    /**
+     * Returns table rows without blocking caller. Default implementation calls {@link #getData()} by executor.
+     */
+    default CompletionStage<List<RowType>> getDataAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::getData, executor);
+    }
+
+    /**
+     * Returns table rows. Implementation may parse rows during stream consumption without storing them in the table,
+     * so use {@link #getData()} if rows are required more than once.
+     */
+    default Stream<RowType> stream() {
+        return getData().stream();
+    }
+
+    /**
+     * Drops parsed rows, if supported by implementation. Rows are parsed again on next {@link #getData()} call.
+     */
+    default void release() {
+    }
 }
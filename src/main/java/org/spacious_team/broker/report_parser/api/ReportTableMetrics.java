@@ -0,0 +1,59 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Metrics of one report table parsing, reported to {@link ReportTableMetricsListener}.
+ */
+@Value
+@Builder
+public class ReportTableMetrics {
+    /**
+     * Report table class
+     */
+    Class<?> tableType;
+    /**
+     * Broker report class, identifies broker
+     */
+    Class<?> reportType;
+    Duration duration;
+    /**
+     * False if table parsing failed
+     */
+    boolean successful;
+    /**
+     * Parsed row count, 0 if parsing failed
+     */
+    int rowCount;
+    /**
+     * Count of rows merged with other rows by {@link AbstractReportTable#mergeDuplicates(Object, Object)}
+     */
+    int mergedRowCount;
+    /**
+     * Count of table rows, for which {@link AbstractReportTable#parseRowToCollection(org.spacious_team.table_wrapper.api.TableRow)}
+     * returned no data (for example {@link AbstractReportTable#parseRow(org.spacious_team.table_wrapper.api.TableRow)}
+     * returned null)
+     */
+    int droppedRowCount;
+}
@@ -0,0 +1,50 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Receives metrics of report tables parsed by {@link InitializableReportTable}. Merged and dropped row counts
+ * are collected by {@link AbstractReportTable} only. Rows of {@link ReportTable#stream()}, parsed
+ * during stream consumption, are not measured.
+ * <p>
+ * Global listener does nothing by default. Listener of tables, registered by {@link AbstractReportTables},
+ * can be provided by its constructor, global listener is used for other tables. Listener is called
+ * by parsing thread, so it should be fast and thread safe. Listener exception doesn't fail table parsing.
+ */
+@FunctionalInterface
+public interface ReportTableMetricsListener {
+    ReportTableMetricsListener NO_OP = metrics -> {
+    };
+
+    void onTableParsed(ReportTableMetrics metrics);
+
+    /**
+     * Sets listener of report tables, which listener is not provided by {@link AbstractReportTables},
+     * {@link #NO_OP} disables metrics collection.
+     */
+    static void setGlobal(ReportTableMetricsListener listener) {
+        ParseMetricsRecorder.setListener(requireNonNull(listener));
+    }
+
+    static ReportTableMetricsListener getGlobal() {
+        return ParseMetricsRecorder.getListener();
+    }
+}
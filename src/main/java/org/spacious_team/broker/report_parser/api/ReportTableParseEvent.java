@@ -0,0 +1,78 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * JDK Flight Recorder event of report table parsing by {@link InitializableReportTable}.
+ * Parsing thread is recorded by event. Event fields are not filled if recording is off.
+ */
+@Name(ReportTableParseEvent.NAME)
+@Label("Report Table Parse")
+@Category({"Broker Report Parser"})
+@Description("Broker report table parsing")
+class ReportTableParseEvent extends Event {
+    static final String NAME = "org.spacious_team.broker.report_parser.ReportTableParse";
+
+    @Label("Table")
+    @Nullable Class<?> table;
+
+    @Label("Broker Report")
+    @Nullable Class<?> report;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Row Count")
+    int rowCount;
+
+    /**
+     * Parses table by parser and commits event, if recording is on
+     */
+    static <T> List<T> record(ReportTable<?> table, Supplier<List<T>> parser) {
+        ReportTableParseEvent event = new ReportTableParseEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        int rowCount = 0;
+        try {
+            List<T> rows = parser.get();
+            isSuccessful = true;
+            rowCount = rows.size();
+            return rows;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.table = table.getClass();
+                event.report = table.getReport().getClass();
+                event.success = isSuccessful;
+                event.rowCount = rowCount;
+                event.commit();
+            }
+        }
+    }
+}
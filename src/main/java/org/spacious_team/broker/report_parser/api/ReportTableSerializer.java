@@ -0,0 +1,62 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.stream.Stream;
+
+/**
+ * Writes report table as JSON array row by row. Rows are got by {@link ReportTable#stream()},
+ * so table may be parsed during writing without storing all rows in memory. POJOs are serialized
+ * by their Jackson annotations, transactions are written with type name as {@link JacksonReportTablesCodec} does.
+ * Requires Jackson 3 in classpath, register serializer by {@link ReportTablesModule}.
+ */
+public class ReportTableSerializer extends StdSerializer<ReportTable<?>> {
+
+    public ReportTableSerializer() {
+        super(ReportTable.class);
+    }
+
+    /**
+     * @throws IllegalArgumentException if table contains transaction of unsupported type
+     */
+    @Override
+    public void serialize(ReportTable<?> table, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        gen.writeStartArray(table);
+        try (Stream<?> rows = table.stream()) {
+            rows.forEachOrdered(row -> writeRow(row, gen, ctxt));
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeRow(@Nullable Object row, JsonGenerator gen, SerializationContext ctxt) {
+        if (row == null) {
+            gen.writeNull();
+        } else if (row instanceof AbstractTransaction) {
+            ctxt.writeValue(gen, JacksonReportTablesCodec.TransactionRow.of((AbstractTransaction) row));
+        } else {
+            ctxt.writeValue(gen, row);
+        }
+    }
+}
@@ -45,4 +45,18 @@ public interface ReportTables {
     ReportTable<SecurityQuote> getSecurityQuoteTable();
 
     ReportTable<ForeignExchangeRate> getForeignExchangeRateTable();
+
+    /**
+     * Drops parsed rows of all tables, see {@link ReportTable#release()}.
+     */
+    default void release() {
+        getAccountPropertyTable().release();
+        getAccountCashTable().release();
+        getCashFlowTable().release();
+        getSecuritiesTable().release();
+        getTransactionTable().release();
+        getSecurityEventCashFlowTable().release();
+        getSecurityQuoteTable().release();
+        getForeignExchangeRateTable().release();
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import java.util.Optional;
+
+/**
+ * Stores parsed report tables by report content hash, see {@link CachingReportTablesFactory}.
+ * Implementation should be thread safe.
+ */
+public interface ReportTablesCache {
+
+    /**
+     * @return previously stored report tables or empty optional if tables are not stored or evicted
+     */
+    Optional<ReportTables> get(ReportCacheKey key);
+
+    /**
+     * Stores parsed rows of all report tables. Tables are parsed, if they are not parsed yet.
+     */
+    void put(ReportCacheKey key, ReportTables tables);
+}
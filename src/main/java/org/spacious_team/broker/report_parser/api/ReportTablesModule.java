@@ -0,0 +1,40 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Registers {@link ReportTableSerializer} and {@link ReportTablesSerializer}. Requires Jackson 3 in classpath.
+ * <pre>{@code
+ * JsonMapper mapper = JsonMapper.builder()
+ *         .addModule(new ReportTablesModule())
+ *         .build();
+ * mapper.writeValue(outputStream, reportTables.getTransactionTable());
+ * }</pre>
+ */
+public class ReportTablesModule extends SimpleModule {
+
+    @SuppressWarnings("method.invocation")
+    public ReportTablesModule() {
+        super(ReportTablesModule.class.getSimpleName());
+        addSerializer(new ReportTableSerializer());
+        addSerializer(new ReportTablesSerializer());
+    }
+}
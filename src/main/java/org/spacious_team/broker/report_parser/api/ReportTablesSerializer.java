@@ -0,0 +1,71 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.ACCOUNT_CASH;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.ACCOUNT_PROPERTIES;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.CASH_FLOWS;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.FOREIGN_EXCHANGE_RATES;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.SECURITIES;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.SECURITY_EVENT_CASH_FLOWS;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.SECURITY_QUOTES;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.TRANSACTIONS;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.VERSION;
+import static org.spacious_team.broker.report_parser.api.JacksonReportTablesCodec.VERSION_PROPERTY;
+
+/**
+ * Writes report tables as JSON object, each table is written row by row by {@link ReportTableSerializer}.
+ * Output can be read by {@link JacksonReportTablesCodec#read(java.io.InputStream)}.
+ * Requires Jackson 3 in classpath, register serializer by {@link ReportTablesModule}.
+ */
+public class ReportTablesSerializer extends StdSerializer<ReportTables> {
+    private final ReportTableSerializer tableSerializer = new ReportTableSerializer();
+
+    public ReportTablesSerializer() {
+        super(ReportTables.class);
+    }
+
+    /**
+     * @throws IllegalArgumentException if transaction table contains transaction of unsupported type
+     */
+    @Override
+    public void serialize(ReportTables tables, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+        gen.writeStartObject(tables);
+        gen.writeNumberProperty(VERSION_PROPERTY, VERSION);
+        writeTable(ACCOUNT_PROPERTIES, tables.getAccountPropertyTable(), gen, ctxt);
+        writeTable(ACCOUNT_CASH, tables.getAccountCashTable(), gen, ctxt);
+        writeTable(CASH_FLOWS, tables.getCashFlowTable(), gen, ctxt);
+        writeTable(SECURITIES, tables.getSecuritiesTable(), gen, ctxt);
+        writeTable(TRANSACTIONS, tables.getTransactionTable(), gen, ctxt);
+        writeTable(SECURITY_EVENT_CASH_FLOWS, tables.getSecurityEventCashFlowTable(), gen, ctxt);
+        writeTable(SECURITY_QUOTES, tables.getSecurityQuoteTable(), gen, ctxt);
+        writeTable(FOREIGN_EXCHANGE_RATES, tables.getForeignExchangeRateTable(), gen, ctxt);
+        gen.writeEndObject();
+    }
+
+    private void writeTable(String name, ReportTable<?> table, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeName(name);
+        tableSerializer.serialize(table, gen, ctxt);
+    }
+}
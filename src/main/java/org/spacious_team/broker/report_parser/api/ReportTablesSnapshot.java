@@ -0,0 +1,116 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+import org.spacious_team.table_wrapper.api.ReportPage;
+
+import java.util.Collection;
+
+/**
+ * Parsed rows of all report tables, detached from report file. Used to restore
+ * previously parsed report without opening report file, for example from cache.
+ */
+@Getter
+public class ReportTablesSnapshot implements ReportTables {
+    private final BrokerReport report = SnapshotBrokerReport.INSTANCE;
+    private final ReportTable<AccountProperty> accountPropertyTable;
+    private final ReportTable<AccountCash> accountCashTable;
+    private final ReportTable<EventCashFlow> cashFlowTable;
+    private final ReportTable<Security> securitiesTable;
+    private final ReportTable<AbstractTransaction> transactionTable;
+    private final ReportTable<SecurityEventCashFlow> securityEventCashFlowTable;
+    private final ReportTable<SecurityQuote> securityQuoteTable;
+    private final ReportTable<ForeignExchangeRate> foreignExchangeRateTable;
+
+    @Builder
+    private ReportTablesSnapshot(Collection<AccountProperty> accountProperties,
+                                 Collection<AccountCash> accountCash,
+                                 Collection<EventCashFlow> cashFlows,
+                                 Collection<Security> securities,
+                                 Collection<AbstractTransaction> transactions,
+                                 Collection<SecurityEventCashFlow> securityEventCashFlows,
+                                 Collection<SecurityQuote> securityQuotes,
+                                 Collection<ForeignExchangeRate> foreignExchangeRates) {
+        this.accountPropertyTable = WrappingReportTable.of(report, accountProperties);
+        this.accountCashTable = WrappingReportTable.of(report, accountCash);
+        this.cashFlowTable = WrappingReportTable.of(report, cashFlows);
+        this.securitiesTable = WrappingReportTable.of(report, securities);
+        this.transactionTable = WrappingReportTable.of(report, transactions);
+        this.securityEventCashFlowTable = WrappingReportTable.of(report, securityEventCashFlows);
+        this.securityQuoteTable = WrappingReportTable.of(report, securityQuotes);
+        this.foreignExchangeRateTable = WrappingReportTable.of(report, foreignExchangeRates);
+    }
+
+    /**
+     * Parses all tables and returns their rows detached from report file.
+     * Report file can be closed after method call. Tables of snapshot return detached report,
+     * which {@link BrokerReport#getReportPage()} throws {@link UnsupportedOperationException}.
+     */
+    public static ReportTablesSnapshot of(ReportTables tables) {
+        if (tables instanceof ReportTablesSnapshot) {
+            return (ReportTablesSnapshot) tables;
+        }
+        return ReportTablesSnapshot.builder()
+                .accountProperties(tables.getAccountPropertyTable().getData())
+                .accountCash(tables.getAccountCashTable().getData())
+                .cashFlows(tables.getCashFlowTable().getData())
+                .securities(tables.getSecuritiesTable().getData())
+                .transactions(tables.getTransactionTable().getData())
+                .securityEventCashFlows(tables.getSecurityEventCashFlowTable().getData())
+                .securityQuotes(tables.getSecurityQuoteTable().getData())
+                .foreignExchangeRates(tables.getForeignExchangeRateTable().getData())
+                .build();
+    }
+
+    /**
+     * Stands for report file, which is not opened for snapshot
+     */
+    static class SnapshotBrokerReport implements BrokerReport {
+        static final SnapshotBrokerReport INSTANCE = new SnapshotBrokerReport();
+
+        private SnapshotBrokerReport() {
+        }
+
+        /**
+         * @throws UnsupportedOperationException always, report file is not opened for snapshot
+         */
+        @Override
+        public ReportPage getReportPage() {
+            throw new UnsupportedOperationException("Report file is not opened, report tables are restored from snapshot");
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return "SnapshotBrokerReport";
+        }
+    }
+}
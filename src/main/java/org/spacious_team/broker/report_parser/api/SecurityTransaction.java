@@ -24,12 +24,8 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spacious_team.broker.pojo.CashFlowType;
-import org.spacious_team.broker.pojo.TransactionCashFlow;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 
 import static lombok.EqualsAndHashCode.CacheStrategy.LAZY;
 
@@ -40,32 +36,31 @@ import static lombok.EqualsAndHashCode.CacheStrategy.LAZY;
 public class SecurityTransaction extends AbstractTransaction {
     @EqualsAndHashCode.Exclude
     private final @Nullable BigDecimal accruedInterest; // НКД, в валюте бумаги. Если задано, то поле valueCurrency обязательно
+    private final @Nullable BigDecimal $accruedInterestForEquals;
+
+    protected SecurityTransaction(SecurityTransactionBuilder<?, ?> b) {
+        super(b);
+        this.accruedInterest = b.accruedInterest;
+        this.$accruedInterestForEquals = (accruedInterest == null) ? null : accruedInterest.stripTrailingZeros();
+    }
 
     @Override
-    public List<TransactionCashFlow> getTransactionCashFlows() {
-        List<TransactionCashFlow> list = new ArrayList<>(3);
-        getValueCashFlow(CashFlowType.PRICE).ifPresent(list::add);
-        getAccruedInterestCashFlow().ifPresent(list::add);
-        getFeeCashFlow().ifPresent(list::add);
-        return list;
+    protected void acceptCashFlows(CashFlowSink sink) {
+        acceptValueCashFlowOrHook(CashFlowType.PRICE, sink);
+        acceptAccruedInterestCashFlow(sink);
+        acceptFeeCashFlowOrHook(sink);
     }
 
-    private Optional<TransactionCashFlow> getAccruedInterestCashFlow() {
+    private void acceptAccruedInterestCashFlow(CashFlowSink sink) {
         // for securities accrued interest = 0
         if (accruedInterest != null && valueCurrency != null && isNotZero(accruedInterest)) {
-            return Optional.of(TransactionCashFlow.builder()
-                    .transactionId(id)
-                    .eventType(CashFlowType.ACCRUED_INTEREST)
-                    .value(accruedInterest)
-                    .currency(valueCurrency)
-                    .build());
+            sink.accept(id, CashFlowType.ACCRUED_INTEREST, accruedInterest, valueCurrency);
         }
-        return Optional.empty();
     }
 
     @EqualsAndHashCode.Include
     @SuppressWarnings("unused")
     private @Nullable BigDecimal getAccruedInterestForEquals() {
-        return (accruedInterest == null) ? null : accruedInterest.stripTrailingZeros();
+        return $accruedInterestForEquals;
     }
 }
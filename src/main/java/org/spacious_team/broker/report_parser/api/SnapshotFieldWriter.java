@@ -0,0 +1,46 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.broker.pojo.CashFlowType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Writes row fields sequentially in snapshot specific encoding, see {@link SnapshotRows}
+ */
+interface SnapshotFieldWriter {
+
+    void putInt(int value);
+
+    void putNullableInt(@Nullable Integer value);
+
+    void putString(@Nullable String value);
+
+    void putCashFlowType(@Nullable CashFlowType type);
+
+    void putInstant(@Nullable Instant value);
+
+    void putDate(@Nullable LocalDate value);
+
+    void putDecimal(@Nullable BigDecimal value);
+}
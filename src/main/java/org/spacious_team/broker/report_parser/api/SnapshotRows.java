@@ -0,0 +1,115 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+
+/**
+ * Field order of rows, shared by {@link BinaryReportTablesCodec} and {@link MappedReportTablesCodec}
+ */
+final class SnapshotRows {
+
+    private SnapshotRows() {
+    }
+
+    static void write(AccountProperty property, SnapshotFieldWriter writer) {
+        writer.putNullableInt(property.getId());
+        writer.putString(property.getAccount());
+        writer.putInstant(property.getTimestamp());
+        writer.putString(property.getProperty().name());
+        writer.putString(property.getValue());
+    }
+
+    static void write(AccountCash cash, SnapshotFieldWriter writer) {
+        writer.putNullableInt(cash.getId());
+        writer.putString(cash.getAccount());
+        writer.putInstant(cash.getTimestamp());
+        writer.putString(cash.getMarket());
+        writer.putDecimal(cash.getValue());
+        writer.putString(cash.getCurrency());
+    }
+
+    static void write(EventCashFlow cashFlow, SnapshotFieldWriter writer) {
+        writer.putNullableInt(cashFlow.getId());
+        writer.putString(cashFlow.getAccount());
+        writer.putInstant(cashFlow.getTimestamp());
+        writer.putCashFlowType(cashFlow.getEventType());
+        writer.putDecimal(cashFlow.getValue());
+        writer.putString(cashFlow.getCurrency());
+        writer.putString(cashFlow.getDescription());
+    }
+
+    static void write(Security security, SnapshotFieldWriter writer) {
+        writer.putNullableInt(security.getId());
+        writer.putString(security.getType().name());
+        writer.putString(security.getIsin());
+        writer.putString(security.getTicker());
+        writer.putString(security.getName());
+    }
+
+    /**
+     * Writes fields of {@link AbstractTransaction}, transaction type and type specific amount are written
+     * by snapshot codec
+     */
+    static void write(AbstractTransaction transaction, SnapshotFieldWriter writer) {
+        writer.putNullableInt(transaction.getId());
+        writer.putString(transaction.getTradeId());
+        writer.putString(transaction.getAccount());
+        writer.putInt(transaction.getSecurity());
+        writer.putInstant(transaction.getTimestamp());
+        writer.putInt(transaction.getCount());
+        writer.putDecimal(transaction.getValue());
+        writer.putDecimal(transaction.getFee());
+        writer.putString(transaction.getValueCurrency());
+        writer.putString(transaction.getFeeCurrency());
+    }
+
+    static void write(SecurityEventCashFlow cashFlow, SnapshotFieldWriter writer) {
+        writer.putNullableInt(cashFlow.getId());
+        writer.putString(cashFlow.getAccount());
+        writer.putInstant(cashFlow.getTimestamp());
+        writer.putInt(cashFlow.getSecurity());
+        writer.putNullableInt(cashFlow.getCount());
+        writer.putCashFlowType(cashFlow.getEventType());
+        writer.putDecimal(cashFlow.getValue());
+        writer.putString(cashFlow.getCurrency());
+    }
+
+    static void write(SecurityQuote quote, SnapshotFieldWriter writer) {
+        writer.putNullableInt(quote.getId());
+        writer.putInt(quote.getSecurity());
+        writer.putInstant(quote.getTimestamp());
+        writer.putDecimal(quote.getQuote());
+        writer.putDecimal(quote.getPrice());
+        writer.putDecimal(quote.getAccruedInterest());
+        writer.putString(quote.getCurrency());
+    }
+
+    static void write(ForeignExchangeRate rate, SnapshotFieldWriter writer) {
+        writer.putDate(rate.getDate());
+        writer.putString(rate.getCurrencyPair());
+        writer.putDecimal(rate.getRate());
+    }
+}
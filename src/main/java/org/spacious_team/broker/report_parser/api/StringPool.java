@@ -0,0 +1,78 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.checkerframework.checker.nullness.qual.PolyNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe pool of canonical strings, used to share equal strings, such as account, currency and market,
+ * between parsed objects. Pool is cleared if it is full.
+ */
+public class StringPool {
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final StringPool global = new StringPool();
+
+    private final int maxSize;
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+
+    public StringPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @throws IllegalArgumentException if max size is not positive
+     */
+    public StringPool(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("String pool max size should be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns pool shared by all broker reports
+     */
+    public static StringPool global() {
+        return global;
+    }
+
+    /**
+     * @return string from pool, equal to provided value
+     */
+    public @PolyNull String intern(@PolyNull String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= maxSize) {
+            pool.clear();
+        }
+        pooled = pool.putIfAbsent(value, value);
+        return (pooled == null) ? value : pooled;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+}
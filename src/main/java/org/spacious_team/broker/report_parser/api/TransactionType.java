@@ -0,0 +1,140 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spacious_team.broker.report_parser.api.AbstractTransaction.AbstractTransactionBuilder;
+
+import java.math.BigDecimal;
+
+/**
+ * Transaction types, which are stored by snapshot codecs and {@link ColumnarTransactionReportTable}.
+ * Ids and names are stored in snapshots, don't change them.
+ */
+@Getter
+@RequiredArgsConstructor
+enum TransactionType {
+    SECURITY(0, "security", SecurityTransaction.class) {
+        @Override
+        @Nullable BigDecimal getTypeSpecificAmount(AbstractTransaction transaction) {
+            return ((SecurityTransaction) transaction).getAccruedInterest();
+        }
+
+        @Override
+        AbstractTransactionBuilder<?, ?> newBuilder() {
+            return SecurityTransaction.builder();
+        }
+
+        @Override
+        void setTypeSpecificAmount(AbstractTransactionBuilder<?, ?> builder, @Nullable BigDecimal amount) {
+            ((SecurityTransaction.SecurityTransactionBuilder<?, ?>) builder).accruedInterest(amount);
+        }
+    },
+    DERIVATIVE(1, "derivative", DerivativeTransaction.class) {
+        @Override
+        @Nullable BigDecimal getTypeSpecificAmount(AbstractTransaction transaction) {
+            return ((DerivativeTransaction) transaction).getValueInPoints();
+        }
+
+        @Override
+        AbstractTransactionBuilder<?, ?> newBuilder() {
+            return DerivativeTransaction.builder();
+        }
+
+        @Override
+        void setTypeSpecificAmount(AbstractTransactionBuilder<?, ?> builder, @Nullable BigDecimal amount) {
+            ((DerivativeTransaction.DerivativeTransactionBuilder<?, ?>) builder).valueInPoints(amount);
+        }
+    },
+    FOREIGN_EXCHANGE(2, "foreign-exchange", ForeignExchangeTransaction.class) {
+        @Override
+        @Nullable BigDecimal getTypeSpecificAmount(AbstractTransaction transaction) {
+            return null;
+        }
+
+        @Override
+        AbstractTransactionBuilder<?, ?> newBuilder() {
+            return ForeignExchangeTransaction.builder();
+        }
+
+        @Override
+        void setTypeSpecificAmount(AbstractTransactionBuilder<?, ?> builder, @Nullable BigDecimal amount) {
+        }
+    };
+
+    private static final TransactionType[] VALUES = values();
+
+    private final int id;
+    private final String jsonName;
+    private final Class<? extends AbstractTransaction> type;
+
+    /**
+     * @throws IllegalArgumentException if transaction class is not {@link SecurityTransaction},
+     *                                  {@link DerivativeTransaction} or {@link ForeignExchangeTransaction}
+     */
+    static TransactionType of(AbstractTransaction transaction) {
+        Class<?> type = transaction.getClass();
+        for (TransactionType value : VALUES) {
+            if (value.type == type) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported transaction type: " + type.getName());
+    }
+
+    /**
+     * @throws IllegalArgumentException if id is unknown
+     */
+    static TransactionType ofId(int id) {
+        if (id < 0 || id >= VALUES.length) {
+            throw new IllegalArgumentException("Unsupported transaction type: " + id);
+        }
+        return VALUES[id];
+    }
+
+    /**
+     * @throws IllegalArgumentException if name is unknown
+     */
+    static TransactionType ofJsonName(@Nullable String name) {
+        for (TransactionType value : VALUES) {
+            if (value.jsonName.equals(name)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported transaction type: " + name);
+    }
+
+    /**
+     * @return accrued interest, value in points or null for foreign exchange transaction
+     */
+    abstract @Nullable BigDecimal getTypeSpecificAmount(AbstractTransaction transaction);
+
+    abstract AbstractTransactionBuilder<?, ?> newBuilder();
+
+    /**
+     * Sets accrued interest or value in points, does nothing for foreign exchange transaction
+     */
+    abstract void setTypeSpecificAmount(AbstractTransactionBuilder<?, ?> builder, @Nullable BigDecimal amount);
+
+    boolean hasTypeSpecificAmount() {
+        return this != FOREIGN_EXCHANGE;
+    }
+}
@@ -20,15 +20,17 @@ package org.spacious_team.broker.report_parser.api;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -43,14 +45,26 @@ public class WrappingReportTable<RowType> implements ReportTable<RowType> {
         return new WrappingReportTable<>(new EagerWrappingReportTable<>(report, dataset));
     }
 
+    /**
+     * Wraps tables, which are parsed sequentially on first {@link #getData()} call
+     */
     @SafeVarargs
     public static <T> WrappingReportTable<T> of(ReportTable<? extends T>... tables) {
+        return of(null, tables);
+    }
+
+    /**
+     * Wraps tables, which are parsed concurrently by executor on first {@link #getData()} call,
+     * first table is parsed by current thread
+     */
+    @SafeVarargs
+    public static <T> WrappingReportTable<T> of(@Nullable Executor executor, ReportTable<? extends T>... tables) {
         assertIsTrue(tables.length > 0, "Can't wrap, report tables not provided");
         BrokerReport report = tables[0].getReport();
         boolean isAllReportsIsSame = Arrays.stream(tables)
                 .allMatch(t -> t.getReport() == report);
         assertIsTrue(isAllReportsIsSame, "Wrapping report tables should be built for same broker report");
-        return new WrappingReportTable<>(new LazyWrappingReportTable<>(report, tables));
+        return new WrappingReportTable<>(new LazyWrappingReportTable<>(report, executor, tables));
     }
 
     private static void assertIsTrue(boolean expression, String message) {
@@ -69,6 +83,16 @@ public class WrappingReportTable<RowType> implements ReportTable<RowType> {
         return reportTable.getData();
     }
 
+    @Override
+    public CompletionStage<List<RowType>> getDataAsync(Executor executor) {
+        return reportTable.getDataAsync(executor);
+    }
+
+    @Override
+    public void release() {
+        reportTable.release();
+    }
+
 
     @Getter
     private static class EagerWrappingReportTable<RowType> implements ReportTable<RowType> {
@@ -77,12 +101,13 @@ public class WrappingReportTable<RowType> implements ReportTable<RowType> {
 
         @SafeVarargs
         public EagerWrappingReportTable(BrokerReport report, Collection<? extends RowType>... dataset) {
-            List<RowType> rows = new ArrayList<>();
-            for (Collection<? extends RowType> d : dataset) {
-                rows.addAll(d);
-            }
             this.report = report;
-            this.data = Collections.unmodifiableList(rows);
+            this.data = ConcatenatedList.of(Arrays.asList(dataset));
+        }
+
+        @Override
+        public CompletionStage<List<RowType>> getDataAsync(Executor executor) {
+            return CompletableFuture.completedStage(data);
         }
     }
 
@@ -90,32 +115,200 @@ public class WrappingReportTable<RowType> implements ReportTable<RowType> {
     private static class LazyWrappingReportTable<RowType> implements ReportTable<RowType> {
         @Getter
         private final BrokerReport report;
-        private volatile ReportTable<? extends RowType> @Nullable [] tables;  // possibly null array of non-null elements
-        private volatile @MonotonicNonNull List<RowType> data;
+        private final @Nullable Executor executor;  // null if wrapped tables are parsed sequentially
+        private final Lock lock = new ReentrantLock();  // virtual thread is not pinned, wrapped tables are parsed without lock
+        private ReportTable<? extends RowType> @Nullable [] tables;  // guarded by lock, erased after parsing for GC
+        private int generation = 0;  // guarded by lock, incremented by release()
+        private volatile @Nullable List<RowType> data;
 
         @SafeVarargs
-        private LazyWrappingReportTable(BrokerReport report, ReportTable<? extends RowType>... tables) {
+        private LazyWrappingReportTable(BrokerReport report,
+                                        @Nullable Executor executor,
+                                        ReportTable<? extends RowType>... tables) {
             this.report = report;
+            this.executor = executor;
             this.tables = tables;
         }
 
         @Override
         public List<RowType> getData() {
-            if (data == null) {
-                synchronized (this) {
-                    if (data == null) {
-                        @SuppressWarnings("nullness")
-                        ReportTable<? extends RowType>[] existingTables = requireNonNull(tables);
-                        data = Stream.of(existingTables)
-                                .map(ReportTable::getData)
-                                .flatMap(Collection::stream)
-                                .collect(Collectors.toUnmodifiableList());
-                        tables = null; // erase for GC
+            @Nullable List<RowType> rows = data;
+            if (rows != null) {
+                return rows;
+            }
+            ReportTable<? extends RowType>[] wrappedTables;
+            int parseGeneration;
+            lock.lock();
+            try {
+                rows = data;
+                if (rows != null) {
+                    return rows;
+                }
+                @SuppressWarnings("nullness")  // tables are erased only after rows are stored
+                ReportTable<? extends RowType>[] notParsedTables = requireNonNull(tables);
+                wrappedTables = notParsedTables;
+                parseGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+            return store(concat(getTablesData(wrappedTables)), parseGeneration);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<? extends RowType>[] getTablesData(ReportTable<? extends RowType>[] tables) {
+            int count = tables.length;
+            List<? extends RowType>[] tablesData = new List[count];
+            @Nullable Executor parsingExecutor = executor;
+            if (parsingExecutor == null) {
+                for (int i = 0; i < count; i++) {
+                    tablesData[i] = tables[i].getData();
+                }
+                return tablesData;
+            }
+            CompletableFuture<? extends List<? extends RowType>>[] futures = new CompletableFuture[count];
+            try {
+                for (int i = 1; i < count; i++) {
+                    futures[i] = tables[i].getDataAsync(parsingExecutor).toCompletableFuture();
+                }
+                tablesData[0] = tables[0].getData();
+                for (int i = 1; i < count; i++) {
+                    tablesData[i] = join(futures[i]);
+                }
+                return tablesData;
+            } catch (RuntimeException e) {
+                cancel(futures);
+                throw e;
+            }
+        }
+
+        private List<? extends RowType> join(CompletableFuture<? extends List<? extends RowType>> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                @Nullable Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Parses wrapped tables concurrently by executor, rows are wrapped after all tables are parsed.
+         * Stage is failed by first failed table.
+         */
+        @Override
+        public CompletionStage<List<RowType>> getDataAsync(Executor executor) {
+            @Nullable List<RowType> rows = data;
+            if (rows != null) {
+                return CompletableFuture.completedStage(rows);
+            }
+            ReportTable<? extends RowType>[] wrappedTables;
+            int parseGeneration;
+            lock.lock();
+            try {
+                rows = data;
+                if (rows != null) {
+                    return CompletableFuture.completedStage(rows);
+                }
+                @SuppressWarnings("nullness")  // tables are erased only after rows are stored
+                ReportTable<? extends RowType>[] notParsedTables = requireNonNull(tables);
+                wrappedTables = notParsedTables;
+                parseGeneration = generation;
+            } finally {
+                lock.unlock();
+            }
+            @SuppressWarnings("unchecked")
+            CompletableFuture<? extends List<? extends RowType>>[] tablesData = Stream.of(wrappedTables)
+                    .map(table -> table.getDataAsync(executor).toCompletableFuture())
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture<List<RowType>> result = new CompletableFuture<>();
+            for (CompletableFuture<? extends List<? extends RowType>> tableData : tablesData) {
+                tableData.whenComplete((ignored, e) -> {
+                    if (e != null && result.completeExceptionally(e)) {
+                        cancel(tablesData);  // result is failed by first failure, don't wait other tables
+                    }
+                });
+            }
+            CompletableFuture.allOf(tablesData)
+                    .thenApplyAsync(ignored -> wrap(tablesData, parseGeneration), executor)
+                    .whenComplete((wrappedRows, e) -> {
+                        if (e == null) {
+                            result.complete(wrappedRows);
+                        } else {
+                            result.completeExceptionally(e);
+                        }
+                    });
+            return result;
+        }
+
+        /**
+         * Cancels futures of wrapped tables, which are not completed yet.
+         * Completed future or future of parsing started by another reader is not affected.
+         */
+        private static void cancel(@Nullable CompletableFuture<?>[] futures) {
+            for (@Nullable CompletableFuture<?> future : futures) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        private List<RowType> wrap(CompletableFuture<? extends List<? extends RowType>>[] tablesData, int parseGeneration) {
+            return store(concat(Stream.of(tablesData)
+                    .map(CompletableFuture::join)
+                    .toArray(List[]::new)), parseGeneration);
+        }
+
+        /**
+         * Stores rows and erases wrapped tables if table is not released during parsing.
+         *
+         * @return stored rows, rows stored by concurrent parsing or provided rows if table is released
+         */
+        private List<RowType> store(List<RowType> rows, int parseGeneration) {
+            lock.lock();
+            try {
+                @Nullable List<RowType> storedRows = data;
+                if (storedRows != null) {
+                    return storedRows;
+                } else if (parseGeneration == generation) {
+                    data = rows;
+                    tables = null;  // erase for GC
+                }
+                return rows;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Concatenates rows in wrapped tables order without copying
+         */
+        @SafeVarargs
+        private static <T> List<T> concat(List<? extends T>... tablesData) {
+            return ConcatenatedList.of(Arrays.asList(tablesData));
+        }
+
+        /**
+         * Releases wrapped tables, if table is not parsed yet. Parsing, which is not completed yet,
+         * doesn't store rows. Wrapped tables are not referenced after parsing,
+         * so parsed rows can't be dropped and are released by wrapped tables owner.
+         */
+        @Override
+        public void release() {
+            lock.lock();
+            try {
+                if (data == null) {  // tables are not erased
+                    @SuppressWarnings("nullness")
+                    ReportTable<? extends RowType>[] wrappedTables = requireNonNull(tables);
+                    generation++;
+                    for (ReportTable<? extends RowType> table : wrappedTables) {
+                        table.release();
                     }
                 }
+            } finally {
+                lock.unlock();
             }
-            //noinspection ConstantConditions
-            return data;
         }
     }
 }
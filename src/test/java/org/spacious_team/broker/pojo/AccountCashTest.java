@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.Instant;
 
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -34,6 +35,8 @@ class AccountCashTest {
         EqualsVerifier
                 .forClass(AccountCash.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("value") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(AccountCash.builder().build())
                 .verify();
     }
@@ -39,5 +39,7 @@ class CashFlowTypeTest {
     void valueOfThrowable() {
         assertThrows(IllegalArgumentException.class, () -> CashFlowType.valueOf(-1));
         assertThrows(IllegalArgumentException.class, () -> CashFlowType.valueOf(14));
+        assertThrows(IllegalArgumentException.class, () -> CashFlowType.valueOf(Integer.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> CashFlowType.valueOf(Integer.MAX_VALUE));
     }
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collection;
 
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.spacious_team.broker.pojo.CashFlowType.CASH;
@@ -113,6 +114,30 @@ class EventCashFlowTest {
         assertFalse(EventCashFlow.checkEquality(flow, notEqualsFlow));
     }
 
+    @Test
+    void getDuplicateKey_equals() {
+        EventCashFlow exponentValueFlow = flow.toBuilder()
+                .value(new BigDecimal("1e2"))
+                .build();
+
+        assertEquals(EventCashFlow.getDuplicateKey(flow), EventCashFlow.getDuplicateKey(equalsFlow));
+        assertEquals(EventCashFlow.getDuplicateKey(flow), EventCashFlow.getDuplicateKey(exponentValueFlow));
+    }
+
+    @Test
+    void getDuplicateKey_notEquals() {
+        assertNotEquals(EventCashFlow.getDuplicateKey(flow),
+                EventCashFlow.getDuplicateKey(flow.toBuilder().account("2").build()));
+        assertNotEquals(EventCashFlow.getDuplicateKey(flow),
+                EventCashFlow.getDuplicateKey(flow.toBuilder().timestamp(Instant.MAX).build()));
+        assertNotEquals(EventCashFlow.getDuplicateKey(flow),
+                EventCashFlow.getDuplicateKey(flow.toBuilder().eventType(FEE).build()));
+        assertNotEquals(EventCashFlow.getDuplicateKey(flow),
+                EventCashFlow.getDuplicateKey(flow.toBuilder().value(BigDecimal.ZERO).build()));
+        assertNotEquals(EventCashFlow.getDuplicateKey(flow),
+                EventCashFlow.getDuplicateKey(flow.toBuilder().currency("USD").build()));
+    }
+
     @Test
     void mergeDuplicates() {
         Collection<EventCashFlow> mergedFlows = EventCashFlow.mergeDuplicates(flow, equalsFlow);
@@ -131,6 +156,8 @@ class EventCashFlowTest {
         EqualsVerifier
                 .forClass(EventCashFlow.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("value") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(EventCashFlow.builder().build())
                 .verify();
     }
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,6 +35,8 @@ class ForeignExchangeRateTest {
         EqualsVerifier
                 .forClass(ForeignExchangeRate.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("rate") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(ForeignExchangeRate.builder().build())
                 .verify();
     }
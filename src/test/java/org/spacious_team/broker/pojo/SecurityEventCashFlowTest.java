@@ -25,6 +25,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Collection;
 
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.spacious_team.broker.pojo.CashFlowType.COUPON;
@@ -97,6 +98,23 @@ class SecurityEventCashFlowTest {
         assertFalse(SecurityEventCashFlow.checkEquality(flow, notEqualsFlow));
     }
 
+    @Test
+    void getDuplicateKey_equals() {
+        assertEquals(SecurityEventCashFlow.getDuplicateKey(flow), SecurityEventCashFlow.getDuplicateKey(equalsFlow));
+    }
+
+    @Test
+    void getDuplicateKey_notEquals() {
+        assertNotEquals(SecurityEventCashFlow.getDuplicateKey(flow),
+                SecurityEventCashFlow.getDuplicateKey(flow.toBuilder().account("2").build()));
+        assertNotEquals(SecurityEventCashFlow.getDuplicateKey(flow),
+                SecurityEventCashFlow.getDuplicateKey(flow.toBuilder().timestamp(Instant.MAX).build()));
+        assertNotEquals(SecurityEventCashFlow.getDuplicateKey(flow),
+                SecurityEventCashFlow.getDuplicateKey(flow.toBuilder().eventType(COUPON).build()));
+        assertNotEquals(SecurityEventCashFlow.getDuplicateKey(flow),
+                SecurityEventCashFlow.getDuplicateKey(flow.toBuilder().security(3).build()));
+    }
+
     @Test
     void mergeDuplicates_success() {
         SecurityEventCashFlow mergingFlow = flow.toBuilder()
@@ -133,6 +151,8 @@ class SecurityEventCashFlowTest {
         EqualsVerifier
                 .forClass(SecurityEventCashFlow.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("value") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(SecurityEventCashFlow.builder().build())
                 .verify();
     }
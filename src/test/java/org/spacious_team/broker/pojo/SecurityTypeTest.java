@@ -37,6 +37,19 @@ class SecurityTypeTest {
         assertFalse(ASSET.isStockOrBond());
     }
 
+    @Test
+    void valueOfDescription() {
+        for (SecurityType type : SecurityType.values()) {
+            assertSame(type, SecurityType.valueOfDescription(type.getDescription()));
+        }
+    }
+
+    @Test
+    void valueOfDescriptionThrowable() {
+        assertThrows(IllegalArgumentException.class, () -> SecurityType.valueOfDescription("STOCK"));
+        assertThrows(IllegalArgumentException.class, () -> SecurityType.valueOfDescription(""));
+    }
+
     @Test
     void isStock() {
         assertTrue(STOCK.isStock());
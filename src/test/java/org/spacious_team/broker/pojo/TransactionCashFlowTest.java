@@ -23,8 +23,10 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.spacious_team.broker.pojo.CashFlowType.PRICE;
 
 class TransactionCashFlowTest {
@@ -34,10 +36,28 @@ class TransactionCashFlowTest {
         EqualsVerifier
                 .forClass(TransactionCashFlow.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("value") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(TransactionCashFlow.builder().build())
                 .verify();
     }
 
+    @Test
+    void testEquals_valueScaleIgnored() {
+        TransactionCashFlow flow = TransactionCashFlow.builder()
+                .transactionId(2)
+                .eventType(PRICE)
+                .value(new BigDecimal("10.500"))
+                .build();
+        TransactionCashFlow other = flow.toBuilder()
+                .value(new BigDecimal("10.5"))
+                .build();
+
+        assertEquals(flow, other);
+        assertEquals(flow.hashCode(), other.hashCode());
+        assertNotEquals(flow, other.toBuilder().value(BigDecimal.TEN).build());
+    }
+
     @Test
     void testToString() {
         TransactionCashFlow flow = TransactionCashFlow.builder()
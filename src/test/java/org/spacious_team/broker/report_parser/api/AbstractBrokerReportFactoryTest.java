@@ -18,19 +18,28 @@
 
 package org.spacious_team.broker.report_parser.api;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.spacious_team.table_wrapper.api.ReportPage;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 @SuppressWarnings({"ConstantConditions", "ResultOfMethodCallIgnored"})
 class AbstractBrokerReportFactoryTest {
@@ -121,6 +130,108 @@ class AbstractBrokerReportFactoryTest {
         assertFalse(is.isClosed());
     }
 
+    @Test
+    void create_path(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("test.xml");
+        Files.write(file, new byte[10]);
+
+        Optional<?> result = factory.create(file);
+
+        assertTrue(result.isPresent());
+    }
+
+    @Test
+    void create_byteBufferInputStream() {
+        ByteBufferInputStream is = new ByteBufferInputStream(ByteBuffer.allocate(10));
+        is.read();
+
+        Optional<?> result = factory.create("file", is);
+
+        assertTrue(result.isPresent());
+        assertEquals(9, is.available());
+    }
+
+    @Test
+    void create_jfrEvent(@TempDir Path dir) throws Exception {
+        CloseCheckInputStream is = new CloseCheckInputStream(10);
+        is.read();
+        Path file = dir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(BrokerReportCreationEvent.NAME).withoutThreshold();
+            recording.start();
+            factory.create("file", is);
+            factory.create("file", new CloseCheckInputStream(5) {
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    throw new RuntimeException();
+                }
+            });
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        assertEquals(2, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(BrokerReportFactory.class.getName(), event.getClass("factory").getName());
+        assertEquals("file", event.getString("fileName"));
+        assertTrue(event.getBoolean("success"));
+        assertEquals(9, event.getLong("bytesConsumed"));
+        assertFalse(events.get(1).getBoolean("success"));
+        assertEquals(0, events.get(1).getLong("bytesConsumed"));
+        assertEquals(9, is.available());
+    }
+
+    @Test
+    void create_jfrEvent_providerResetsStream(@TempDir Path dir) throws Exception {
+        CloseCheckInputStream is = new CloseCheckInputStream(10);
+        Path file = dir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(BrokerReportCreationEvent.NAME).withoutThreshold();
+            recording.start();
+            factory.create("file", is, (fileName, in) -> readWithResets(in));
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        assertEquals(1, events.size());
+        assertEquals(5, events.get(0).getLong("bytesConsumed"));
+        assertEquals(10, is.available());
+    }
+
+    @Test
+    void create_jfrEvent_providerError(@TempDir Path dir) throws Exception {
+        CloseCheckInputStream is = new CloseCheckInputStream(10);
+        Path file = dir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(BrokerReportCreationEvent.NAME).withoutThreshold();
+            recording.start();
+            assertThrows(AssertionError.class, () -> factory.create("file", is, (fileName, in) -> {
+                throw new AssertionError();
+            }));
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).getBoolean("success"));
+        assertEquals(10, is.available());
+    }
+
+    @SneakyThrows
+    private static BrokerReport readWithResets(InputStream is) {
+        is.readNBytes(6);
+        is.reset();
+        is.skip(2);
+        is.readNBytes(3);
+        return mock(BrokerReport.class);
+    }
+
     @Getter
     static class CloseCheckInputStream extends ByteArrayInputStream {
         private boolean closed = false;
@@ -32,10 +32,15 @@ import org.spacious_team.table_wrapper.api.TableColumn;
 import org.spacious_team.table_wrapper.api.TableHeaderColumn;
 import org.spacious_team.table_wrapper.api.TableRow;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -211,6 +216,222 @@ class AbstractReportTableTest {
         // other tests already done
     }
 
+    @Test
+    void stream_rowsParsedByStreaming() {
+        TableRow row1 = mock(TableRow.class);
+        TableRow row2 = mock(TableRow.class);
+        when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+        when(table.stream()).thenReturn(Stream.of(row1, row2));
+        StreamingReportTable reportTable = new StreamingReportTable(brokerReport);
+
+        List<Object> rows = reportTable.stream().collect(Collectors.toList());
+
+        assertEquals(List.of(row1, row2), rows);
+        verify(table, never()).getDataCollection(any(), any(), any(), any());
+    }
+
+    @Test
+    void stream_badRowsSkipped() {
+        TableRow row1 = mock(TableRow.class);
+        TableRow badRow = mock(TableRow.class);
+        TableRow row2 = mock(TableRow.class);
+        when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+        when(table.stream()).thenReturn(Stream.of(row1, badRow, row2));
+        StreamingReportTable reportTable = new StreamingReportTable(brokerReport) {
+            @Override
+            protected Object parseRow(TableRow row) {
+                if (row == badRow) {
+                    throw new IllegalArgumentException();
+                }
+                return row;
+            }
+        };
+
+        List<Object> rows = reportTable.stream().collect(Collectors.toList());
+
+        assertEquals(List.of(row1, row2), rows);
+    }
+
+    @Test
+    void stream_sourceExceptionWrapped() {
+        when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+        when(table.stream()).thenReturn(Stream.generate(() -> {
+            throw new IllegalStateException();
+        }));
+        StreamingReportTable reportTable = new StreamingReportTable(brokerReport);
+        Stream<Object> rows = reportTable.stream();
+
+        BrokerReportParseException e = assertThrows(BrokerReportParseException.class, rows::count);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void stream_consumerExceptionNotWrapped() {
+        TableRow row = mock(TableRow.class);
+        when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+        when(table.stream()).thenReturn(Stream.of(row));
+        StreamingReportTable reportTable = new StreamingReportTable(brokerReport);
+        Stream<Object> rows = reportTable.stream();
+
+        assertThrows(IllegalStateException.class, () -> rows.forEach(r -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    void stream_equalityCheckOverridden_rowsParsedByParseTable() {
+        when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+        ReportTable reportTable = new ReportTable(brokerReport, "table1", null);
+
+        assertEquals(0, reportTable.stream().count());
+
+        verify(table).getDataCollection(eq(brokerReport), any(), any(), any());
+        verify(table, never()).stream();
+    }
+
+    @Test
+    void stream_afterGetData_parsedRowsReturned() {
+        when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+        StreamingReportTable reportTable = new StreamingReportTable(brokerReport);
+
+        reportTable.getData();
+        reportTable.stream();
+
+        verify(reportPage).createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1));
+        verify(table, never()).stream();
+    }
+
+    @Test
+    void parseTable_duplicateKeyExtractor_rowsMerged() {
+        TableRow row1 = mock(TableRow.class);
+        TableRow row2 = mock(TableRow.class);
+        TableRow row3 = mock(TableRow.class);
+        when(row1.getRowNum()).thenReturn(1);
+        when(row2.getRowNum()).thenReturn(2);
+        when(row3.getRowNum()).thenReturn(11);
+        when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+        when(table.stream()).thenReturn(Stream.of(row1, row2, row3));
+        AbstractReportTable<Integer> reportTable = new AbstractReportTable<>(brokerReport, "table1", null, TableHeader.class) {
+            @Override
+            protected Integer parseRow(TableRow row) {
+                return row.getRowNum();
+            }
+
+            @Override
+            protected Function<Integer, ?> getDuplicateKeyExtractor() {
+                return rowNum -> rowNum % 10;
+            }
+
+            @Override
+            protected Collection<Integer> mergeDuplicates(Integer oldObject, Integer newObject) {
+                return List.of(oldObject + newObject);
+            }
+        };
+
+        assertEquals(List.of(2, 12), reportTable.getData());
+        verify(table, never()).getDataCollection(any(), any(), any(), any());
+    }
+
+    @Test
+    void parseTable_metrics_duplicateKeyExtractor() {
+        List<ReportTableMetrics> metrics = new ArrayList<>();
+        ReportTableMetricsListener.setGlobal(metrics::add);
+        try {
+            TableRow row1 = mock(TableRow.class);
+            TableRow row2 = mock(TableRow.class);
+            TableRow row3 = mock(TableRow.class);
+            TableRow row4 = mock(TableRow.class);
+            when(row1.getRowNum()).thenReturn(1);
+            when(row2.getRowNum()).thenReturn(2);
+            when(row3.getRowNum()).thenReturn(11);
+            when(row4.getRowNum()).thenReturn(-1);
+            when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+            when(table.stream()).thenReturn(Stream.of(row1, row2, row3, row4));
+            AbstractReportTable<Integer> reportTable = new AbstractReportTable<>(brokerReport, "table1", null, TableHeader.class) {
+                @Override
+                protected @Nullable Integer parseRow(TableRow row) {
+                    return (row.getRowNum() < 0) ? null : row.getRowNum();
+                }
+
+                @Override
+                protected Function<Integer, ?> getDuplicateKeyExtractor() {
+                    return rowNum -> rowNum % 10;
+                }
+
+                @Override
+                protected Collection<Integer> mergeDuplicates(Integer oldObject, Integer newObject) {
+                    return List.of(oldObject + newObject);
+                }
+            };
+
+            reportTable.getData();
+
+            assertEquals(1, metrics.size());
+            ReportTableMetrics tableMetrics = metrics.get(0);
+            assertEquals(reportTable.getClass(), tableMetrics.getTableType());
+            assertEquals(brokerReport.getClass(), tableMetrics.getReportType());
+            assertEquals(2, tableMetrics.getRowCount());
+            assertEquals(1, tableMetrics.getMergedRowCount());
+            assertEquals(1, tableMetrics.getDroppedRowCount());
+        } finally {
+            ReportTableMetricsListener.setGlobal(ReportTableMetricsListener.NO_OP);
+        }
+    }
+
+    @Test
+    void parseTable_metrics_equalityChecker() {
+        List<ReportTableMetrics> metrics = new ArrayList<>();
+        ReportTableMetricsListener.setGlobal(metrics::add);
+        try {
+            when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+            when(table.getDataCollection(any(), any(), any(), any())).thenAnswer(invocation -> {
+                Function<TableRow, Collection<Object>> rowParser = invocation.getArgument(1);
+                BiFunction<Object, Object, Collection<Object>> merger = invocation.getArgument(3);
+                rowParser.apply(mock(TableRow.class));
+                merger.apply(1, 2);
+                merger.apply(1, null);
+                return List.of(1);
+            });
+            ReportTable reportTable = new ReportTable(brokerReport, "table1", null);
+
+            reportTable.getData();
+
+            assertEquals(1, metrics.size());
+            assertEquals(1, metrics.get(0).getRowCount());
+            assertEquals(1, metrics.get(0).getMergedRowCount());
+            assertEquals(1, metrics.get(0).getDroppedRowCount());
+        } finally {
+            ReportTableMetricsListener.setGlobal(ReportTableMetricsListener.NO_OP);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("nullness")
+    void parseTable_metrics_nullRowsDropped() {
+        List<ReportTableMetrics> metrics = new ArrayList<>();
+        ReportTableMetricsListener.setGlobal(metrics::add);
+        try {
+            when(reportPage.createTable(any(Predicate.class), eq(1), eq(null), eq(TableHeader.class), eq(1))).thenReturn(table);
+            when(table.getDataCollection(any(), any(), any(), any())).thenAnswer(invocation -> {
+                Function<TableRow, Collection<Object>> rowParser = invocation.getArgument(1);
+                assertEquals(List.of(), rowParser.apply(mock(TableRow.class)));
+                return List.of();
+            });
+            AbstractReportTable<Object> reportTable = new AbstractReportTable<>(brokerReport, "table1", null, TableHeader.class) {
+                @Override
+                protected Collection<Object> parseRowToCollection(TableRow row) {
+                    return null;  // returned by some implementations, same as no rows
+                }
+            };
+
+            assertEquals(List.of(), reportTable.getData());
+            assertEquals(1, metrics.size());
+            assertEquals(1, metrics.get(0).getDroppedRowCount());
+        } finally {
+            ReportTableMetricsListener.setGlobal(ReportTableMetricsListener.NO_OP);
+        }
+    }
+
     private static void matches(Predicate<Object> tableNameFinder, Object... values) {
         for (Object value : values) {
             assertTrue(tableNameFinder.test(value));
@@ -350,6 +571,18 @@ class AbstractReportTableTest {
         }
     }
 
+    static class StreamingReportTable extends AbstractReportTable<Object> {
+
+        StreamingReportTable(BrokerReport report) {
+            super(report, "table1", null, TableHeader.class);
+        }
+
+        @Override
+        protected Object parseRow(TableRow row) {
+            return row;
+        }
+    }
+
     enum TableHeader implements TableHeaderColumn {
         ;
 
@@ -30,8 +30,19 @@ import org.spacious_team.broker.pojo.Security;
 import org.spacious_team.broker.pojo.SecurityEventCashFlow;
 import org.spacious_team.broker.pojo.SecurityQuote;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AbstractReportTablesTest {
@@ -49,6 +60,61 @@ class AbstractReportTablesTest {
         assertSame(brokerReport, table.getReport());
     }
 
+    @Test
+    void initializeTablesAsync() {
+        ReportTables tables = new ReportTables(brokerReport);
+        AbstractReportTableTest.ReportTable table1 =
+                tables.register(spy(new AbstractReportTableTest.ReportTable(brokerReport, "table1", null)));
+        AbstractReportTableTest.ReportTable table2 =
+                tables.register(spy(new AbstractReportTableTest.ReportTable(brokerReport, "table2", null)));
+        List<Runnable> tasks = new ArrayList<>();
+        doReturn(List.of()).when(table1).parseTable();
+        doReturn(List.of()).when(table2).parseTable();
+
+        tables.initializeTablesAsync(tasks::add);
+
+        assertEquals(2, tasks.size());
+        verify(table1, never()).parseTable();
+        tasks.forEach(Runnable::run);
+        verify(table1).parseTable();
+        verify(table2).parseTable();
+    }
+
+    @Test
+    void register_anotherReport_exception() {
+        ReportTables tables = new ReportTables(brokerReport);
+        AbstractReportTableTest.ReportTable table =
+                new AbstractReportTableTest.ReportTable(mock(BrokerReport.class), "table1", null);
+
+        assertThrows(IllegalArgumentException.class, () -> tables.register(table));
+    }
+
+    @Test
+    void register_metricsListener() {
+        List<ReportTableMetrics> metrics = new ArrayList<>();
+        List<ReportTableMetrics> globalMetrics = new ArrayList<>();
+        ReportTableMetricsListener.setGlobal(globalMetrics::add);
+        try {
+            ReportTables tables = new ReportTables(brokerReport, metrics::add);
+            AbstractReportTableTest.ReportTable table =
+                    tables.register(spy(new AbstractReportTableTest.ReportTable(brokerReport, "table1", null)));
+            AbstractReportTableTest.ReportTable notRegisteredTable =
+                    spy(new AbstractReportTableTest.ReportTable(brokerReport, "table2", null));
+            doReturn(List.of(1, 2)).when(table).parseTable();
+            doReturn(List.of(1)).when(notRegisteredTable).parseTable();
+
+            table.getData();
+            notRegisteredTable.getData();
+
+            assertEquals(1, metrics.size());
+            assertEquals(2, metrics.get(0).getRowCount());
+            assertEquals(1, globalMetrics.size());
+            assertEquals(1, globalMetrics.get(0).getRowCount());
+        } finally {
+            ReportTableMetricsListener.setGlobal(ReportTableMetricsListener.NO_OP);
+        }
+    }
+
 
     @SuppressWarnings({"ReturnOfNull", "ConstantConditions"})
     static class ReportTables extends AbstractReportTables<BrokerReport> {
@@ -58,11 +124,25 @@ class AbstractReportTablesTest {
             super(report);
         }
 
+        protected ReportTables(BrokerReport report, ReportTableMetricsListener metricsListener) {
+            super(report, metricsListener);
+        }
+
         @Override
         public <E> EmptyReportTable<E> emptyTable() {
             return super.emptyTable();
         }
 
+        @Override
+        public <R extends AbstractReportTable<?>> R register(R table) {
+            return super.register(table);
+        }
+
+        @Override
+        public void initializeTablesAsync(Executor executor) {
+            super.initializeTablesAsync(executor);
+        }
+
         @Override
         public ReportTable<AccountProperty> getAccountPropertyTable() {
             return null;
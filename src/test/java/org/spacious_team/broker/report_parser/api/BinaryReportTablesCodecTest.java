@@ -0,0 +1,164 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.SecurityQuote;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.assertTablesEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.createSnapshot;
+
+class BinaryReportTablesCodecTest {
+
+    BinaryReportTablesCodec codec = new BinaryReportTablesCodec();
+
+    @Test
+    void writeAndRead() throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+
+        byte[] bytes = write(tables);
+        ReportTables restored = codec.read(new ByteArrayInputStream(bytes));
+
+        assertTablesEquals(tables, restored);
+        assertEquals(
+                List.of(SecurityTransaction.class, DerivativeTransaction.class, ForeignExchangeTransaction.class),
+                restored.getTransactionTable().getData().stream().map(Object::getClass).toList());
+    }
+
+    @Test
+    void read_byteBufferInputStream() throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+        byte[] bytes = write(tables);
+
+        ReportTables restored = codec.read(new ByteBufferInputStream(ByteBuffer.wrap(bytes)));
+
+        assertTablesEquals(tables, restored);
+    }
+
+    @Test
+    void writeAndRead_extremeValues() throws IOException {
+        List<SecurityQuote> quotes = List.of(
+                SecurityQuote.builder()
+                        .id(Integer.MIN_VALUE)
+                        .security(Integer.MAX_VALUE)
+                        .timestamp(Instant.MIN)
+                        .quote(new BigDecimal(Long.MIN_VALUE).movePointLeft(3))
+                        .price(new BigDecimal("123456789012345678901234567890.123456789"))
+                        .accruedInterest(new BigDecimal("1E+10"))
+                        .build(),
+                SecurityQuote.builder()
+                        .id(null)
+                        .security(-1)
+                        .timestamp(Instant.ofEpochSecond(-1, 999_999_999))
+                        .quote(new BigDecimal(Long.MAX_VALUE).negate().subtract(BigDecimal.TEN))
+                        .currency("")
+                        .build());
+        List<ForeignExchangeRate> rates = List.of(ForeignExchangeRate.builder()
+                .date(LocalDate.MIN)
+                .currencyPair("ЮАНЬRUB")
+                .rate(new BigDecimal("0.000"))
+                .build());
+        ReportTablesSnapshot tables = ReportTablesSnapshot.builder()
+                .accountProperties(List.of())
+                .accountCash(List.of())
+                .cashFlows(List.of())
+                .securities(List.of())
+                .transactions(List.of())
+                .securityEventCashFlows(List.of())
+                .securityQuotes(quotes)
+                .foreignExchangeRates(rates)
+                .build();
+
+        ReportTables restored = codec.read(new ByteArrayInputStream(write(tables)));
+
+        assertTablesEquals(tables, restored);
+        assertEquals(3, restored.getForeignExchangeRateTable().getData().get(0).getRate().scale());
+        assertEquals(quotes.get(0).getPrice(), restored.getSecurityQuoteTable().getData().get(0).getPrice());
+    }
+
+    @Test
+    void write_compact() throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        new JacksonReportTablesCodec().write(tables, json);
+
+        assertTrue(write(tables).length * 3 < json.size());
+    }
+
+    @Test
+    void write_unsupportedTransaction_exception() {
+        AbstractTransaction transaction = new ForeignExchangeTransaction(ForeignExchangeTransaction.builder()
+                .id(1)
+                .tradeId("1")
+                .account("1")
+                .timestamp(Instant.now())) {
+        };
+        ReportTables tables = ReportTablesSnapshot.builder()
+                .accountProperties(List.of())
+                .accountCash(List.of())
+                .cashFlows(List.of())
+                .securities(List.of())
+                .transactions(List.of(transaction))
+                .securityEventCashFlows(List.of())
+                .securityQuotes(List.of())
+                .foreignExchangeRates(List.of())
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> codec.write(tables, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void read_notSnapshot_exception() {
+        byte[] bytes = "{\"version\": 1}".getBytes();
+        assertThrows(IOException.class, () -> codec.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void read_unsupportedVersion_exception() throws IOException {
+        byte[] bytes = write(createSnapshot());
+        bytes[BinaryReportTablesCodec.MAGIC.length] = BinaryReportTablesCodec.VERSION + 1;
+
+        assertThrows(IOException.class, () -> codec.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void read_truncated_exception() throws IOException {
+        byte[] bytes = write(createSnapshot());
+        ByteArrayInputStream is = new ByteArrayInputStream(bytes, 0, bytes.length - 1);
+
+        assertThrows(IOException.class, () -> codec.read(is));
+    }
+
+    private byte[] write(ReportTables tables) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(tables, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.assertTablesEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.createSnapshot;
+
+class BinarySnapshotReportTablesTest {
+
+    @Test
+    void open(@TempDir Path directory) throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+        Path file = directory.resolve("snapshot.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            new BinaryReportTablesCodec().write(tables, out);
+        }
+
+        BinarySnapshotReportTables restored = BinarySnapshotReportTables.open(file);
+
+        assertTablesEquals(tables, restored);
+        assertSame(restored.getReport(), restored.getTransactionTable().getReport());
+    }
+
+    @Test
+    void open_notExists() {
+        assertThrows(BrokerReportParseException.class, () -> BinarySnapshotReportTables.open(Path.of("not-exists")));
+    }
+
+    @Test
+    void of_tableDecodedLazily() throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+        byte[] bytes = write(tables);
+        bytes[getTableOffset(bytes, 6)] = 0x7F;  // quote table row count is greater than row count
+
+        BinarySnapshotReportTables restored = BinarySnapshotReportTables.of(ByteBuffer.wrap(bytes));
+
+        assertEquals(tables.getTransactionTable().getData(), restored.getTransactionTable().getData());
+        assertEquals(tables.getForeignExchangeRateTable().getData(), restored.getForeignExchangeRateTable().getData());
+        assertThrows(BrokerReportParseException.class, () -> restored.getSecurityQuoteTable().getData());
+    }
+
+    @Test
+    void release() throws IOException {
+        BinarySnapshotReportTables restored = BinarySnapshotReportTables.of(ByteBuffer.wrap(write(createSnapshot())));
+        List<AbstractTransaction> data = restored.getTransactionTable().getData();
+
+        restored.release();
+
+        assertNotSame(data, restored.getTransactionTable().getData());
+        assertEquals(data, restored.getTransactionTable().getData());
+    }
+
+    private static int getTableOffset(byte[] snapshot, int table) {
+        ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+        buffer.position(BinaryReportTablesCodec.MAGIC.length);
+        BinarySnapshotDecoder.readLength(buffer);  // version
+        BinarySnapshotDecoder.decodeDictionary(buffer);
+        int[] lengths = new int[BinaryReportTablesCodec.TABLE_COUNT];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = BinarySnapshotDecoder.readLength(buffer);
+        }
+        int offset = buffer.position();
+        for (int i = 0; i < table; i++) {
+            offset += lengths[i];
+        }
+        return offset;
+    }
+
+    private static byte[] write(ReportTables tables) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryReportTablesCodec().write(tables, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BrokerReportFactoryRegistryTest {
+
+    BrokerReportFactory xmlFactory = factory(BrokerReportSignature.fileName(Pattern.compile(".*\\.xml")));
+    BrokerReportFactory zipFactory = factory(BrokerReportSignature.leadingBytes((byte) 'P', (byte) 'K'));
+    BrokerReportFactory pdfFactory = factory(BrokerReportSignature.leadingBytes((byte) '%', (byte) 'P'));
+    BrokerReportFactory anyFactory = factory();
+    BrokerReportFactoryRegistry registry =
+            new BrokerReportFactoryRegistry(List.of(xmlFactory, zipFactory, pdfFactory, anyFactory));
+
+    @Test
+    void getCandidates() {
+        assertEquals(List.of(xmlFactory, anyFactory), registry.getCandidates("report.xml", stream("<a/>")));
+        assertEquals(List.of(zipFactory, anyFactory), registry.getCandidates("report.zip", stream("PK..")));
+        assertEquals(List.of(xmlFactory, pdfFactory, anyFactory), registry.getCandidates("pdf.xml", stream("%PDF")));
+        assertEquals(List.of(anyFactory), registry.getCandidates("report", stream("")));
+    }
+
+    @Test
+    void create() {
+        BrokerReport report = mock(BrokerReport.class);
+        when(zipFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(zipFactory.create(anyString(), any())).thenReturn(Optional.of(report));
+        when(anyFactory.canCreate(anyString(), any())).thenReturn(true);
+
+        Optional<BrokerReportFactoryRegistry.CreatedBrokerReport> result = registry.create("report.zip", stream("PK.."));
+
+        assertTrue(result.isPresent());
+        assertSame(zipFactory, result.get().getFactory());
+        assertSame(report, result.get().getReport());
+        verify(xmlFactory, never()).canCreate(anyString(), any());
+        verify(anyFactory, never()).create(anyString(), any());
+    }
+
+    @Test
+    void create_notCreated() {
+        when(anyFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(anyFactory.create(anyString(), any())).thenReturn(Optional.empty());
+
+        assertTrue(registry.create("report", stream("")).isEmpty());
+        verify(anyFactory).create(anyString(), any());
+    }
+
+    @Test
+    void createConcurrently() throws Exception {
+        BrokerReport zipReport = mock(BrokerReport.class);
+        BrokerReport anyReport = mock(BrokerReport.class);
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicBoolean isInterrupted = new AtomicBoolean();
+        when(zipFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(zipFactory.create(anyString(), any())).thenReturn(Optional.of(zipReport));
+        when(anyFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(anyFactory.create(anyString(), any())).then(invocation -> {
+            tasks.get(0).run(); // zip factory attempt completes while this attempt is running
+            isInterrupted.set(Thread.currentThread().isInterrupted());
+            return Optional.of(anyReport);
+        });
+        Executor executor = task -> {
+            tasks.add(task);
+            if (tasks.size() == 2) {
+                tasks.get(1).run();
+            }
+        };
+        ByteBufferInputStream is = stream("PK..");
+
+        Optional<BrokerReportFactoryRegistry.CreatedBrokerReport> result = registry.create("report.zip", is, executor);
+
+        assertTrue(result.isPresent());
+        assertSame(zipFactory, result.get().getFactory());
+        assertSame(zipReport, result.get().getReport());
+        assertTrue(isInterrupted.get());
+        assertFalse(Thread.currentThread().isInterrupted());
+        verify(anyReport).close();
+        verify(zipReport, never()).close();
+        assertEquals('P', is.read()); // stream position is not changed
+    }
+
+    @Test
+    void createConcurrently_reportOfFactoryRegisteredFirstReturned() throws Exception {
+        BrokerReport zipReport = mock(BrokerReport.class);
+        BrokerReport anyReport = mock(BrokerReport.class);
+        List<Runnable> tasks = new ArrayList<>();
+        when(zipFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(zipFactory.create(anyString(), any())).thenReturn(Optional.of(zipReport));
+        when(anyFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(anyFactory.create(anyString(), any())).thenReturn(Optional.of(anyReport));
+        Executor executor = task -> {
+            tasks.add(task);
+            if (tasks.size() == 2) {
+                tasks.get(1).run(); // any factory attempt completes first
+                tasks.get(0).run();
+            }
+        };
+
+        Optional<BrokerReportFactoryRegistry.CreatedBrokerReport> result =
+                registry.create("report.zip", stream("PK.."), executor);
+
+        assertTrue(result.isPresent());
+        assertSame(zipFactory, result.get().getFactory());
+        assertSame(zipReport, result.get().getReport());
+        verify(anyReport).close();
+        verify(zipReport, never()).close();
+    }
+
+    @Test
+    void createConcurrently_firstCreated_otherAttemptsCanceled() {
+        BrokerReport report = mock(BrokerReport.class);
+        when(zipFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(zipFactory.create(anyString(), any())).thenReturn(Optional.of(report));
+
+        Optional<BrokerReportFactoryRegistry.CreatedBrokerReport> result =
+                registry.create("report.zip", stream("PK.."), Runnable::run);
+
+        assertTrue(result.isPresent());
+        assertSame(zipFactory, result.get().getFactory());
+        verify(anyFactory, never()).canCreate(anyString(), any());
+    }
+
+    @Test
+    void createConcurrently_notCreated() {
+        when(anyFactory.canCreate(anyString(), any())).thenReturn(true);
+        when(anyFactory.create(anyString(), any())).thenReturn(Optional.empty());
+
+        assertTrue(registry.create("report", stream(""), Runnable::run).isEmpty());
+    }
+
+    @Test
+    void createConcurrently_failed_failuresSuppressed() {
+        IllegalStateException zipFailure = new IllegalStateException();
+        IllegalStateException anyFailure = new IllegalStateException();
+        when(zipFactory.canCreate(anyString(), any())).thenThrow(zipFailure);
+        when(anyFactory.canCreate(anyString(), any())).thenThrow(anyFailure);
+        ByteBufferInputStream is = stream("PK..");
+
+        BrokerReportParseException e = assertThrows(BrokerReportParseException.class,
+                () -> registry.create("report.zip", is, Runnable::run));
+        assertArrayEquals(new Throwable[]{zipFailure, anyFailure}, e.getSuppressed());
+    }
+
+    @Test
+    void createConcurrently_error_failureSuppressed() {
+        AssertionError zipFailure = new AssertionError();
+        when(zipFactory.canCreate(anyString(), any())).thenThrow(zipFailure);
+        when(anyFactory.canCreate(anyString(), any())).thenReturn(false);
+        ByteBufferInputStream is = stream("PK..");
+
+        BrokerReportParseException e = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(
+                BrokerReportParseException.class, () -> registry.create("report.zip", is, task -> new Thread(task).start())));
+        assertArrayEquals(new Throwable[]{zipFailure}, e.getSuppressed());
+    }
+
+    private static BrokerReportFactory factory(BrokerReportSignature... signatures) {
+        BrokerReportFactory factory = mock(BrokerReportFactory.class);
+        Collection<BrokerReportSignature> signatureList = List.of(signatures);
+        when(factory.getSignatures()).thenReturn(signatureList);
+        return factory;
+    }
+
+    private static ByteBufferInputStream stream(String content) {
+        return new ByteBufferInputStream(ByteBuffer.wrap(content.getBytes()));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrokerReportProbeTest {
+
+    @Test
+    void of_inputStream() {
+        InputStream is = new BufferedInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        BrokerReportProbe probe = BrokerReportProbe.of("file", is, 2);
+
+        assertEquals("file", probe.getFileName());
+        assertEquals(2, probe.getHead().remaining());
+        assertFalse(probe.isComplete());
+        assertTrue(probe.startsWith(new byte[]{1, 2}));
+        assertFalse(probe.startsWith(new byte[]{1, 2, 3}));
+        assertEquals(1, read(is)); // stream is reset
+    }
+
+    @Test
+    void of_byteBufferInputStream_complete() {
+        InputStream is = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+
+        BrokerReportProbe probe = BrokerReportProbe.of("file", is, 2);
+
+        assertTrue(probe.isComplete());
+        assertEquals(3, probe.getHead().remaining());
+    }
+
+    @Test
+    void of_markNotSupported_exception() {
+        InputStream is = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> BrokerReportProbe.of("file", is, 2));
+    }
+
+    @Test
+    void getZipEntryNames_complete() {
+        byte[] zip = zip("[Content_Types].xml", "xl/workbook.xml");
+        BrokerReportProbe probe = new BrokerReportProbe("file", ByteBuffer.wrap(zip), true);
+
+        assertTrue(probe.isZip());
+        assertEquals(Set.of("[Content_Types].xml", "xl/workbook.xml"), probe.getZipEntryNames());
+    }
+
+    @Test
+    void getZipEntryNames_notComplete() {
+        byte[] zip = zip("[Content_Types].xml", "xl/workbook.xml");
+        BrokerReportProbe probe = new BrokerReportProbe("file", ByteBuffer.wrap(zip, 0, zip.length / 2), false);
+
+        assertTrue(probe.getZipEntryNames().contains("[Content_Types].xml"));
+    }
+
+    @Test
+    void getZipEntryNames_zip64CentralDirectoryOffset_localHeadersRead() {
+        byte[] zip = zip("[Content_Types].xml", "xl/workbook.xml");
+        ByteBuffer buffer = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(zip.length - 22 + 16, 0xFFFFFFFF);
+        BrokerReportProbe probe = new BrokerReportProbe("file", buffer, true);
+
+        assertTrue(probe.getZipEntryNames().contains("[Content_Types].xml"));
+    }
+
+    @Test
+    void getZipEntryNames_centralDirectoryEntriesMissing_localHeadersRead() {
+        byte[] zip = zip("[Content_Types].xml", "xl/workbook.xml");
+        ByteBuffer buffer = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putShort(zip.length - 22 + 10, (short) 3);
+        BrokerReportProbe probe = new BrokerReportProbe("file", buffer, true);
+
+        assertTrue(probe.getZipEntryNames().contains("[Content_Types].xml"));
+    }
+
+    @Test
+    void getZipEntryNames_notZip() {
+        BrokerReportProbe probe = new BrokerReportProbe("file", ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), true);
+
+        assertFalse(probe.isZip());
+        assertTrue(probe.getZipEntryNames().isEmpty());
+    }
+
+    @Test
+    void getXmlRootElement() {
+        String xml = "\uFEFF<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!-- comment -->\n" +
+                "<ns:broker_report xmlns:ns=\"urn:test\"><data/></ns:broker_report>";
+        BrokerReportProbe probe = new BrokerReportProbe("file", ByteBuffer.wrap(xml.getBytes(UTF_8)), true);
+
+        assertEquals(Optional.of("broker_report"), probe.getXmlRootElement());
+    }
+
+    @Test
+    void getXmlRootElement_notXml() {
+        BrokerReportProbe probe = new BrokerReportProbe("file", ByteBuffer.wrap(zip("a")), true);
+
+        assertEquals(Optional.empty(), probe.getXmlRootElement());
+    }
+
+    @SneakyThrows
+    private static int read(InputStream is) {
+        return is.read();
+    }
+
+    @SneakyThrows
+    static byte[] zip(String... entryNames) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String name : entryNames) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(name.getBytes(UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.spacious_team.broker.report_parser.api.BrokerReportProbeTest.zip;
+
+class BrokerReportSignatureTest {
+
+    @Test
+    void fileName() {
+        BrokerReportSignature signature = BrokerReportSignature.fileName(Pattern.compile(".*\\.xml"));
+
+        assertTrue(signature.matches(probe("report.xml", new byte[0])));
+        assertFalse(signature.matches(probe("report.xlsx", new byte[0])));
+    }
+
+    @Test
+    void leadingBytes() {
+        BrokerReportSignature signature = BrokerReportSignature.leadingBytes((byte) 1, (byte) 2);
+
+        assertTrue(signature.matches(probe("file", new byte[]{1, 2, 3})));
+        assertFalse(signature.matches(probe("file", new byte[]{1, 3, 3})));
+        assertFalse(signature.matches(probe("file", new byte[]{1})));
+    }
+
+    @Test
+    void zipEntry() {
+        BrokerReportSignature signature = BrokerReportSignature.zipEntry("xl/workbook.xml");
+
+        assertTrue(signature.matches(probe("file", zip("xl/workbook.xml"))));
+        assertFalse(signature.matches(probe("file", zip("word/document.xml"))));
+        assertFalse(signature.matches(probe("file", new byte[]{1, 2, 3, 4})));
+    }
+
+    @Test
+    void zipEntry_notCompleteProbe_matches() {
+        BrokerReportSignature signature = BrokerReportSignature.zipEntry("xl/workbook.xml");
+        byte[] zip = zip("word/document.xml");
+        BrokerReportProbe probe = new BrokerReportProbe("file", ByteBuffer.wrap(zip, 0, 10), false);
+
+        assertTrue(signature.matches(probe));
+    }
+
+    @Test
+    void xmlRootElement() {
+        BrokerReportSignature signature = BrokerReportSignature.xmlRootElement("report");
+
+        assertTrue(signature.matches(probe("file", "<report/>".getBytes(UTF_8))));
+        assertFalse(signature.matches(probe("file", "<another/>".getBytes(UTF_8))));
+        assertFalse(signature.matches(probe("file", "report".getBytes(UTF_8))));
+    }
+
+    @Test
+    void anyOf() {
+        BrokerReportSignature signature = BrokerReportSignature.anyOf(
+                BrokerReportSignature.fileName(Pattern.compile(".*\\.xml")),
+                BrokerReportSignature.leadingBytes((byte) 1));
+
+        assertTrue(signature.matches(probe("report.xml", new byte[0])));
+        assertTrue(signature.matches(probe("report", new byte[]{1})));
+        assertFalse(signature.matches(probe("report", new byte[]{2})));
+    }
+
+    private static BrokerReportProbe probe(String fileName, byte[] bytes) {
+        return new BrokerReportProbe(fileName, ByteBuffer.wrap(bytes), true);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferInputStreamTest {
+
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, (byte) 255});
+
+    @Test
+    void read() {
+        ByteBufferInputStream is = new ByteBufferInputStream(buffer);
+        byte[] bytes = new byte[10];
+
+        assertEquals(1, is.read());
+        assertEquals(3, is.available());
+        assertEquals(3, is.read(bytes, 1, 10 - 1));
+        assertArrayEquals(new byte[]{0, 2, 3, (byte) 255, 0, 0, 0, 0, 0, 0}, bytes);
+        assertEquals(-1, is.read());
+        assertEquals(-1, is.read(bytes, 0, 1));
+        assertEquals(0, is.read(bytes, 0, 0));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void markAndReset() {
+        ByteBufferInputStream is = new ByteBufferInputStream(buffer);
+
+        assertTrue(is.markSupported());
+        is.read();
+        is.mark(Integer.MAX_VALUE);
+        assertEquals(2, is.skip(2));
+        assertEquals(1, is.skip(10));
+        is.reset();
+
+        assertEquals(2, is.read());
+    }
+
+    @Test
+    void getRemainingBytes() {
+        ByteBufferInputStream is = new ByteBufferInputStream(buffer);
+        is.read();
+
+        ByteBuffer remaining = is.getRemainingBytes();
+
+        assertTrue(remaining.isReadOnly());
+        assertEquals(3, remaining.remaining());
+        assertEquals(2, remaining.get(0));
+        assertEquals(3, is.available());
+    }
+
+    @Test
+    void of(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("report.xml");
+        Files.write(file, new byte[]{5, 6});
+
+        ByteBufferInputStream is = ByteBufferInputStream.of(file);
+
+        assertArrayEquals(new byte[]{5, 6}, is.readAllBytes());
+    }
+
+    @Test
+    void of_fileNotFound_exception(@TempDir Path dir) {
+        Path file = dir.resolve("absent.xml");
+
+        assertThrows(BrokerReportParseException.class, () -> ByteBufferInputStream.of(file));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.*;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.assertTablesEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.createSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class CachingReportTablesFactoryTest {
+
+    @TempDir
+    Path directory;
+    @Mock
+    ReportTablesFactory reportTablesFactory;
+    @Mock
+    BrokerReportFactory brokerReportFactory;
+    @Mock
+    BrokerReport brokerReport;
+
+    @Test
+    void create() throws Exception {
+        Path file = Files.write(directory.resolve("report.xml"), new byte[]{1, 2, 3});
+        ReportTablesSnapshot expected = createSnapshot();
+        ReportTablesCache cache = new DiskReportTablesCache(directory.resolve("cache"), 1_000_000,
+                new JacksonReportTablesCodec());
+        CachingReportTablesFactory factory = new CachingReportTablesFactory(reportTablesFactory, cache, "1.0");
+        when(brokerReportFactory.create(file)).thenReturn(Optional.of(brokerReport));
+        when(reportTablesFactory.canCreate(brokerReport)).thenReturn(true);
+        when(reportTablesFactory.create(brokerReport)).thenReturn(mock(ReportTables.class, delegatesTo(expected)));
+
+        Optional<ReportTables> tables = factory.create(file, brokerReportFactory);
+        Optional<ReportTables> cachedTables = factory.create(file, brokerReportFactory);
+
+        assertTrue(tables.isPresent());
+        assertTrue(cachedTables.isPresent());
+        assertTablesEquals(expected, tables.get());
+        assertTablesEquals(expected, cachedTables.get());
+        verify(brokerReportFactory).create(file);
+        verify(reportTablesFactory).create(brokerReport);
+        verify(brokerReport).close();
+    }
+
+    @Test
+    void create_reportDetached() throws Exception {
+        Path file = Files.write(directory.resolve("report.xml"), new byte[]{1, 2, 3});
+        ReportTablesCache cache = new DiskReportTablesCache(directory.resolve("cache"), 1_000_000,
+                new JacksonReportTablesCodec());
+        CachingReportTablesFactory factory = new CachingReportTablesFactory(reportTablesFactory, cache, "1.0");
+        when(brokerReportFactory.create(file)).thenReturn(Optional.of(brokerReport));
+        when(reportTablesFactory.canCreate(brokerReport)).thenReturn(true);
+        when(reportTablesFactory.create(brokerReport)).thenReturn(createSnapshot());
+
+        ReportTables tables = factory.create(file, brokerReportFactory).orElseThrow();
+        ReportTables cachedTables = factory.create(file, brokerReportFactory).orElseThrow();
+
+        for (ReportTables t : List.of(tables, cachedTables)) {
+            BrokerReport report = t.getTransactionTable().getReport();
+            assertNotSame(brokerReport, report);
+            assertSame(report, t.getSecuritiesTable().getReport());
+            assertThrows(UnsupportedOperationException.class, report::getReportPage);
+            assertDoesNotThrow(report::close);
+        }
+        verify(brokerReport, never()).getReportPage();
+    }
+
+    @Test
+    void create_newVersion_parsedAgain() throws IOException {
+        Path file = Files.write(directory.resolve("report.xml"), new byte[]{1, 2, 3});
+        ReportTablesCache cache = new DiskReportTablesCache(directory.resolve("cache"), 1_000_000,
+                new JacksonReportTablesCodec());
+        when(brokerReportFactory.create(file)).thenReturn(Optional.of(brokerReport));
+        when(reportTablesFactory.canCreate(brokerReport)).thenReturn(true);
+        when(reportTablesFactory.create(brokerReport)).thenReturn(createSnapshot());
+
+        new CachingReportTablesFactory(reportTablesFactory, cache, "1.0").create(file, brokerReportFactory);
+        new CachingReportTablesFactory(reportTablesFactory, cache, "1.1").create(file, brokerReportFactory);
+
+        verify(reportTablesFactory, times(2)).create(brokerReport);
+    }
+
+    @Test
+    void create_notCached() throws Exception {
+        Path file = Files.write(directory.resolve("report.xml"), new byte[]{1, 2, 3});
+        ReportTablesCache cache = mock(ReportTablesCache.class);
+        CachingReportTablesFactory factory = new CachingReportTablesFactory(reportTablesFactory, cache, "1.0");
+        ReportTablesSnapshot expected = createSnapshot();
+        when(brokerReportFactory.create(file)).thenReturn(Optional.of(brokerReport));
+        when(reportTablesFactory.canCreate(brokerReport)).thenReturn(true);
+        when(reportTablesFactory.create(brokerReport)).thenReturn(expected);
+        doThrow(UncheckedIOException.class).when(cache).put(any(), any());
+
+        Optional<ReportTables> tables = factory.create(file, brokerReportFactory);
+
+        assertSame(expected, tables.orElseThrow());
+        verify(brokerReport).close();
+    }
+
+    @Test
+    void create_reportNotCreated() throws IOException {
+        Path file = Files.write(directory.resolve("report.xml"), new byte[]{1, 2, 3});
+        ReportTablesCache cache = mock(ReportTablesCache.class);
+        CachingReportTablesFactory factory = new CachingReportTablesFactory(reportTablesFactory, cache, "1.0");
+        when(brokerReportFactory.create(file)).thenReturn(Optional.empty());
+
+        assertTrue(factory.create(file, brokerReportFactory).isEmpty());
+        verifyNoInteractions(reportTablesFactory);
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    void create_tablesNotCreated() throws Exception {
+        Path file = Files.write(directory.resolve("report.xml"), new byte[]{1, 2, 3});
+        ReportTablesCache cache = mock(ReportTablesCache.class);
+        CachingReportTablesFactory factory = new CachingReportTablesFactory(reportTablesFactory, cache, "1.0");
+        when(brokerReportFactory.create(file)).thenReturn(Optional.of(brokerReport));
+
+        assertTrue(factory.create(file, brokerReportFactory).isEmpty());
+        verify(brokerReport).close();
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    void delegates() {
+        CachingReportTablesFactory factory = new CachingReportTablesFactory(reportTablesFactory,
+                mock(ReportTablesCache.class), "1.0");
+        ReportTables tables = mock(ReportTables.class);
+        when(reportTablesFactory.canCreate(brokerReport)).thenReturn(true);
+        when(reportTablesFactory.create(brokerReport)).thenReturn(tables);
+
+        assertTrue(factory.canCreate(brokerReport));
+        assertSame(tables, factory.create(brokerReport));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnarTransactionReportTableTest {
+
+    @Mock
+    BrokerReport report;
+    @Mock
+    ReportTable<AbstractTransaction> table;
+
+    SecurityTransaction securityTransaction = SecurityTransaction.builder()
+            .id(1)
+            .tradeId("t1")
+            .account(new String("a1"))
+            .security(2)
+            .timestamp(Instant.ofEpochSecond(1_600_000_000, 123_456_789))
+            .count(3)
+            .value(new BigDecimal("-1000.50"))
+            .accruedInterest(new BigDecimal("12.3456"))
+            .fee(new BigDecimal("1.0"))
+            .valueCurrency(new String("USD"))
+            .feeCurrency(new String("RUB"))
+            .build();
+    DerivativeTransaction derivativeTransaction = DerivativeTransaction.builder()
+            .id(2)
+            .tradeId("t2")
+            .account(new String("a1"))
+            .security(3)
+            .timestamp(Instant.MIN)
+            .count(-1)
+            .valueInPoints(new BigDecimal("1E+3"))
+            .value(BigDecimal.ZERO)
+            .fee(null)
+            .valueCurrency(new String("RUB"))
+            .build();
+    ForeignExchangeTransaction foreignExchangeTransaction = ForeignExchangeTransaction.builder()
+            .id(3)
+            .tradeId("t3")
+            .account("a2")
+            .security(4)
+            .timestamp(Instant.MAX)
+            .count(Integer.MAX_VALUE)
+            .value(new BigDecimal("123456789012345678901234567890.123"))  // non-compact unscaled value
+            .fee(new BigDecimal("1E-200"))  // non-compact scale
+            .valueCurrency("EUR")
+            .feeCurrency("EUR")
+            .build();
+    List<AbstractTransaction> transactions = List.of(securityTransaction, derivativeTransaction, foreignExchangeTransaction);
+
+    @Test
+    void getData() {
+        ColumnarTransactionReportTable columnarTable = ColumnarTransactionReportTable.of(report, transactions);
+        List<AbstractTransaction> data = columnarTable.getData();
+
+        assertSame(report, columnarTable.getReport());
+        assertEquals(3, data.size());
+        assertEquals(transactions, data);
+        for (int i = 0; i < transactions.size(); i++) {
+            assertSame(transactions.get(i).getClass(), data.get(i).getClass());
+            assertEquals(transactions.get(i).toString(), data.get(i).toString());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> data.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> data.add(securityTransaction));
+    }
+
+    @Test
+    void getData_stringsAreShared() {
+        List<AbstractTransaction> data = ColumnarTransactionReportTable.of(report, transactions).getData();
+
+        assertSame(data.get(0).getAccount(), data.get(1).getAccount());
+        assertSame(data.get(0).getFeeCurrency(), data.get(1).getValueCurrency());
+    }
+
+    @Test
+    void of_reportTable() {
+        when(table.getReport()).thenReturn(report);
+        when(table.getData()).thenReturn(transactions);
+
+        ColumnarTransactionReportTable columnarTable = ColumnarTransactionReportTable.of(table);
+
+        assertSame(report, columnarTable.getReport());
+        assertEquals(transactions, columnarTable.getData());
+    }
+
+    @Test
+    void of_empty() {
+        assertTrue(ColumnarTransactionReportTable.of(report, List.of()).getData().isEmpty());
+    }
+
+    @Test
+    void of_unsupportedTransactionType() {
+        AbstractTransaction transaction = new SecurityTransaction(SecurityTransaction.builder()) {
+        };
+        List<AbstractTransaction> transactions = List.of(transaction);
+
+        assertThrows(IllegalArgumentException.class, () -> ColumnarTransactionReportTable.of(report, transactions));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcatenatedListTest {
+
+    @Test
+    void get() {
+        List<Object> list = ConcatenatedList.of(List.of(List.of(1, 2), List.of(), List.of(3), List.of(4, 5, 6)));
+
+        assertEquals(6, list.size());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), list);
+        assertEquals(4, list.get(3));
+        assertEquals(6, list.get(5));
+        assertInstanceOf(RandomAccess.class, list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(6));
+    }
+
+    @Test
+    void forEach() {
+        List<Object> list = ConcatenatedList.of(List.of(List.of(1, 2), List.of(3)));
+        List<Object> elements = new ArrayList<>();
+
+        list.forEach(elements::add);
+
+        assertEquals(List.of(1, 2, 3), elements);
+    }
+
+    @Test
+    void of_modifiableRandomAccessListCopied() {
+        List<Object> source = new ArrayList<>(List.of(1, 2));
+        List<Object> list = ConcatenatedList.of(List.of(source, List.of(3)));
+
+        source.set(0, 0);
+
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    void of_unmodifiableViewCopied() {
+        List<Object> rows = new ArrayList<>(List.of(1, 2));
+        List<Object> source = Collections.unmodifiableList(rows);
+        List<Object> list = ConcatenatedList.of(List.of(source, List.of(3)));
+
+        rows.set(0, 0);
+
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    void of_immutableRandomAccessListNotCopied() {
+        List<Object> source = new NotCopiedList();
+        List<Object> list = ConcatenatedList.of(List.of(source, List.of(3)));
+
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    void of_notRandomAccessCollectionCopied() {
+        List<Object> source = new LinkedList<>(List.of(1, 2));
+        Collection<Object> set = Set.of(3);
+        List<Object> list = ConcatenatedList.of(List.of(source, set));
+
+        source.set(0, 0);
+
+        assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    void of_emptyAndSingleList() {
+        List<Object> source = List.of(1, 2);
+
+        assertTrue(ConcatenatedList.of(List.of()).isEmpty());
+        assertTrue(ConcatenatedList.of(List.of(List.of(), List.of())).isEmpty());
+        assertEquals(source, ConcatenatedList.of(List.of(List.of(), source)));
+    }
+
+    @Test
+    void unmodifiable() {
+        List<Object> list = ConcatenatedList.of(List.of(List.of(1), List.of(2)));
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    /**
+     * Fails on copying
+     */
+    private static class NotCopiedList extends AbstractList<Object> implements ImmutableRandomAccessList<Object> {
+
+        @Override
+        public Object get(int index) {
+            return List.of(1, 2).get(index);
+        }
+
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Override
+        public Object[] toArray() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
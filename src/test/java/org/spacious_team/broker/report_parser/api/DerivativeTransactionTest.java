@@ -26,9 +26,12 @@ import org.spacious_team.broker.pojo.TransactionCashFlow;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.spacious_team.broker.pojo.CashFlowType.*;
@@ -134,6 +137,27 @@ class DerivativeTransactionTest {
                 getValueCashFlow(tr));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void getTransactionCashFlows_deprecatedValueInPointsCashFlowGetterOverridden() {
+        DerivativeTransaction transaction = new DerivativeTransaction(tr.toBuilder()) {
+            @Override
+            protected Optional<TransactionCashFlow> getValueInPointsCashFlow() {
+                return Optional.empty();
+            }
+        };
+
+        expectedCashFlows(transaction, getValueCashFlow(tr), getFeeCashFlow(tr));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedCashFlowGetters() {
+        assertEquals(Optional.of(getValueInPointsCashFlow(tr)), tr.getValueInPointsCashFlow());
+        assertEquals(Optional.of(getValueCashFlow(tr)), tr.getValueCashFlow(DERIVATIVE_PRICE));
+        assertEquals(Optional.of(getFeeCashFlow(tr)), tr.getFeeCashFlow());
+    }
+
     @NonNull
     private TransactionCashFlow getValueInPointsCashFlow(DerivativeTransaction transaction) {
         return TransactionCashFlow.builder()
@@ -168,6 +192,20 @@ class DerivativeTransactionTest {
         assertEquals(
                 List.of(flows),
                 transaction.getTransactionCashFlows());
+        assertEquals(
+                List.of(flows),
+                getSinkCashFlows(transaction));
+    }
+
+    private List<TransactionCashFlow> getSinkCashFlows(DerivativeTransaction transaction) {
+        List<TransactionCashFlow> flows = new ArrayList<>();
+        transaction.forEachCashFlow((transactionId, type, value, currency) -> flows.add(TransactionCashFlow.builder()
+                .transactionId(transactionId)
+                .eventType(type)
+                .value(value)
+                .currency(currency)
+                .build()));
+        return flows;
     }
 
     @Test
@@ -175,6 +213,8 @@ class DerivativeTransactionTest {
         EqualsVerifier
                 .forClass(DerivativeTransaction.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("value", "fee", "valueInPoints") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(DerivativeTransaction.builder().build())
                 .verify();
     }
@@ -0,0 +1,154 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.assertTablesEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.createSnapshot;
+
+class DiskReportTablesCacheTest {
+
+    @TempDir
+    Path directory;
+    ReportTablesCodec codec = new JacksonReportTablesCodec();
+
+    @Test
+    void getAndPut() {
+        DiskReportTablesCache cache = new DiskReportTablesCache(directory, 1_000_000, codec);
+        ReportCacheKey key = key(1);
+        ReportTablesSnapshot tables = createSnapshot();
+
+        assertTrue(cache.get(key).isEmpty());
+        cache.put(key, tables);
+        Optional<ReportTables> cached = cache.get(key);
+
+        assertTrue(cached.isPresent());
+        assertTablesEquals(tables, cached.get());
+        assertTrue(Files.exists(directory.resolve(key.getId() + DiskReportTablesCache.FILE_EXTENSION)));
+    }
+
+    @Test
+    void put_replace() {
+        DiskReportTablesCache cache = new DiskReportTablesCache(directory, 1_000_000, codec);
+        ReportCacheKey key = key(1);
+
+        cache.put(key, createSnapshot());
+        long size = cache.size();
+        cache.put(key, createSnapshot());
+
+        assertEquals(size, cache.size());
+    }
+
+    @Test
+    void put_leastRecentlyUsedEvicted() {
+        long fileSize = getFileSize();
+        DiskReportTablesCache cache = new DiskReportTablesCache(directory, 2 * fileSize, codec);
+
+        cache.put(key(1), createSnapshot());
+        cache.put(key(2), createSnapshot());
+        cache.get(key(1));
+        cache.put(key(3), createSnapshot());
+
+        assertTrue(cache.get(key(1)).isPresent());
+        assertTrue(cache.get(key(2)).isEmpty());
+        assertTrue(cache.get(key(3)).isPresent());
+        assertEquals(2 * fileSize, cache.size());
+    }
+
+    @Test
+    void constructor_filesLoaded() throws IOException {
+        long fileSize = getFileSize();
+        DiskReportTablesCache cache = new DiskReportTablesCache(directory, 3 * fileSize, codec);
+        cache.put(key(1), createSnapshot());
+        cache.put(key(2), createSnapshot());
+        cache.put(key(3), createSnapshot());
+        setLastModifiedTime(key(1), 3);
+        setLastModifiedTime(key(2), 1);
+        setLastModifiedTime(key(3), 2);
+        Files.writeString(directory.resolve("not-completed.tmp"), "");
+
+        DiskReportTablesCache reopened = new DiskReportTablesCache(directory, 2 * fileSize, codec);
+
+        assertEquals(2 * fileSize, reopened.size());
+        assertTrue(reopened.get(key(1)).isPresent());
+        assertTrue(reopened.get(key(2)).isEmpty());
+        assertTrue(reopened.get(key(3)).isPresent());
+        assertFalse(Files.exists(directory.resolve("not-completed.tmp")));
+    }
+
+    @Test
+    void get_corruptedFile_removed() throws IOException {
+        DiskReportTablesCache cache = new DiskReportTablesCache(directory, 1_000_000, codec);
+        ReportCacheKey key = key(1);
+        cache.put(key, createSnapshot());
+        Path file = directory.resolve(key.getId() + DiskReportTablesCache.FILE_EXTENSION);
+        Files.writeString(file, "{");
+
+        assertTrue(cache.get(key).isEmpty());
+        assertFalse(Files.exists(file));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_writeException_notStored() {
+        DiskReportTablesCache cache = new DiskReportTablesCache(directory, 1_000_000, new JacksonReportTablesCodec() {
+            @Override
+            public void write(ReportTables tables, OutputStream out) throws IOException {
+                throw new IOException();
+            }
+        });
+        ReportCacheKey key = key(1);
+
+        assertThrows(UncheckedIOException.class, () -> cache.put(key, createSnapshot()));
+        assertTrue(cache.get(key).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void constructor_illegalMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new DiskReportTablesCache(directory, 0, codec));
+    }
+
+    private long getFileSize() {
+        DiskReportTablesCache cache = new DiskReportTablesCache(directory.resolve("size"), Long.MAX_VALUE, codec);
+        cache.put(key(0), createSnapshot());
+        return cache.size();
+    }
+
+    private void setLastModifiedTime(ReportCacheKey key, long seconds) throws IOException {
+        Path file = directory.resolve(key.getId() + DiskReportTablesCache.FILE_EXTENSION);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(seconds * 1000));
+    }
+
+    private static ReportCacheKey key(int i) {
+        return ReportCacheKey.of(new ByteArrayInputStream(new byte[]{(byte) i}), "1.0");
+    }
+}
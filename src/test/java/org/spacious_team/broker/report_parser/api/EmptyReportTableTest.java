@@ -0,0 +1,56 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmptyReportTableTest {
+
+    @Mock
+    BrokerReport brokerReport;
+
+    @Test
+    void getData() {
+        ReportTable<Object> reportTable = EmptyReportTable.of(brokerReport);
+
+        assertSame(brokerReport, reportTable.getReport());
+        assertTrue(reportTable.getData().isEmpty());
+    }
+
+    @Test
+    void getDataAsync() {
+        Executor executor = mock(Executor.class);
+        ReportTable<Object> reportTable = EmptyReportTable.of(brokerReport);
+
+        List<Object> data = reportTable.getDataAsync(executor).toCompletableFuture().getNow(null);
+
+        assertTrue(data.isEmpty());
+        verifyNoInteractions(executor);
+    }
+}
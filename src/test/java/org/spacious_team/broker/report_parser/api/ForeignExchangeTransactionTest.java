@@ -21,16 +21,22 @@ package org.spacious_team.broker.report_parser.api;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.spacious_team.broker.pojo.Transaction;
 import org.spacious_team.broker.pojo.TransactionCashFlow;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.spacious_team.broker.pojo.CashFlowType.FEE;
 import static org.spacious_team.broker.pojo.CashFlowType.PRICE;
 
@@ -103,6 +109,34 @@ class ForeignExchangeTransactionTest {
         expectedCashFlows(tr, getValueCashFlow(tr));
     }
 
+    @Test
+    void getTransactionCashFlows_feeIsLessThanEpsilon() {
+        ForeignExchangeTransaction tr = this.tr.toBuilder()
+                .fee(new BigDecimal("-0.00000099"))
+                .build();
+        expectedCashFlows(tr, getValueCashFlow(tr));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.000001", "-0.000001", "0.0000010000", "1", "-12.5", "1E+10", "123456789.123456789"})
+    void isNotZero(String value) {
+        assertTrue(tr.isNotZero(new BigDecimal(value)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0.000", "0E+5", "0.00000099", "-0.00000099", "1E-7", "0.000000999999999999"})
+    void isZero(String value) {
+        assertFalse(tr.isNotZero(new BigDecimal(value)));
+    }
+
+    @Test
+    void isNotZero_zeroThresholdScale() {
+        assertTrue(AbstractTransaction.isNotZero(new BigDecimal("0.01"), 2));
+        assertFalse(AbstractTransaction.isNotZero(new BigDecimal("0.0099"), 2));
+        assertTrue(AbstractTransaction.isNotZero(new BigDecimal("100"), -2));
+        assertFalse(AbstractTransaction.isNotZero(new BigDecimal("99.99"), -2));
+    }
+
     @NonNull
     private TransactionCashFlow getValueCashFlow(ForeignExchangeTransaction transaction) {
         return TransactionCashFlow.builder()
@@ -127,6 +161,20 @@ class ForeignExchangeTransactionTest {
         assertEquals(
                 List.of(flows),
                 transaction.getTransactionCashFlows());
+        assertEquals(
+                List.of(flows),
+                getSinkCashFlows(transaction));
+    }
+
+    private List<TransactionCashFlow> getSinkCashFlows(ForeignExchangeTransaction transaction) {
+        List<TransactionCashFlow> flows = new ArrayList<>();
+        transaction.forEachCashFlow((transactionId, type, value, currency) -> flows.add(TransactionCashFlow.builder()
+                .transactionId(transactionId)
+                .eventType(type)
+                .value(value)
+                .currency(currency)
+                .build()));
+        return flows;
     }
 
     @Test
@@ -134,6 +182,8 @@ class ForeignExchangeTransactionTest {
         EqualsVerifier
                 .forClass(ForeignExchangeTransaction.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("value", "fee") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(ForeignExchangeTransaction.builder().build())
                 .verify();
     }
@@ -25,8 +25,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +61,16 @@ class InitializableReportTableTest {
         assertSame(expected, reportTable.getData());
     }
 
+    @Test
+    void getData_modifiable() {
+        InitializableReportTableImpl reportTable = new InitializableReportTableImpl(brokerReport);
+        Object row = new Object();
+
+        reportTable.getData().add(row);
+
+        assertTrue(reportTable.getData().contains(row));
+    }
+
     @Test
     void initializeIfNeed() {
         InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
@@ -59,6 +82,171 @@ class InitializableReportTableTest {
         verify(reportTable).parseTable();
     }
 
+    @Test
+    void release() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+
+        List<Object> data = reportTable.getData();
+        reportTable.release();
+
+        assertNotSame(data, reportTable.getData());
+        verify(reportTable, times(2)).parseTable();
+    }
+
+    @Test
+    void release_notInitialized() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+
+        reportTable.release();
+        reportTable.getData();
+
+        verify(reportTable).parseTable();
+    }
+
+    @Test
+    void release_duringParsing_rowsNotStored() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        doAnswer(invocation -> {
+            reportTable.release();  // released concurrently, before parsing is completed
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(reportTable).parseTable();
+
+        List<Object> data = reportTable.getData();  // rows of released parsing are not stored, table is parsed again
+
+        assertSame(data, reportTable.getData());
+        verify(reportTable, times(2)).parseTable();
+    }
+
+    @Test
+    void getData_softReferenced() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        when(reportTable.isDataSoftReferenced()).thenReturn(true);
+
+        List<Object> data = reportTable.getData();
+
+        assertSame(data, reportTable.getData());  // strongly reachable by test
+        assertEquals(data, reportTable.stream().collect(toList()));
+        verify(reportTable).parseTable();
+    }
+
+    @Test
+    void release_softReferenced() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        when(reportTable.isDataSoftReferenced()).thenReturn(true);
+
+        List<Object> data = reportTable.getData();
+        reportTable.release();
+
+        assertNotSame(data, reportTable.getData());
+        verify(reportTable, times(2)).parseTable();
+    }
+
+    @Test
+    void initializeAsync() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+
+        reportTable.initializeAsync(Runnable::run);
+        reportTable.initializeAsync(Runnable::run);
+        reportTable.getData();
+
+        verify(reportTable).parseTable();
+    }
+
+    @Test
+    void initializeAsync_parseException() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        doThrow(IllegalStateException.class).when(reportTable).parseTable();
+        List<Runnable> tasks = new ArrayList<>();
+
+        reportTable.initializeAsync(tasks::add);
+        tasks.forEach(Runnable::run);
+
+        assertThrows(BrokerReportParseException.class, reportTable::getData);
+    }
+
+    @Test
+    void getData_parseException_notWrappedTwice() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        BrokerReportParseException exception = new BrokerReportParseException("test", new IllegalStateException());
+        doThrow(exception).when(reportTable).parseTable();
+
+        assertSame(exception, assertThrows(BrokerReportParseException.class, reportTable::getData));
+    }
+
+    @Test
+    void initializeAsync_parseException_parsedAgain() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        doThrow(IllegalStateException.class).doCallRealMethod().when(reportTable).parseTable();
+
+        reportTable.initializeAsync(Runnable::run);
+
+        assertDoesNotThrow(reportTable::getData);
+        verify(reportTable, times(2)).parseTable();
+    }
+
+    @Test
+    void getDataAsync() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+
+        List<Object> data = reportTable.getDataAsync().join();
+
+        assertSame(data, reportTable.getData());
+        assertSame(data, reportTable.getDataAsync().join());
+        verify(reportTable).parseTable();
+    }
+
+    @Test
+    void getDataAsync_waitsStartedInitialization() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        List<Runnable> tasks = new ArrayList<>();
+
+        reportTable.initializeAsync(tasks::add);
+        CompletableFuture<List<Object>> future = reportTable.getDataAsync();
+
+        assertFalse(future.isDone());
+        tasks.forEach(Runnable::run);
+        assertSame(reportTable.getData(), future.join());
+        verify(reportTable).parseTable();
+    }
+
+    @Test
+    void getDataAsync_executor() {
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        List<Runnable> tasks = new ArrayList<>();
+
+        CompletableFuture<List<Object>> future = reportTable.getDataAsync(tasks::add).toCompletableFuture();
+        assertFalse(future.isDone());
+        tasks.forEach(Runnable::run);
+
+        assertSame(reportTable.getData(), future.join());
+        assertSame(future.join(), reportTable.getDataAsync(tasks::add).toCompletableFuture().getNow(null));
+        assertEquals(1, tasks.size());
+        verify(reportTable).parseTable();
+    }
+
+    @Test
+    void getData_concurrently_parsedOnce() throws Exception {
+        CountDownLatch parsingStarted = new CountDownLatch(1);
+        CountDownLatch parsingAllowed = new CountDownLatch(1);
+        InitializableReportTableImpl reportTable = spy(new InitializableReportTableImpl(brokerReport));
+        doAnswer(invocation -> {
+            parsingStarted.countDown();
+            parsingAllowed.await();
+            return invocation.callRealMethod();
+        }).when(reportTable).parseTable();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Object>> first = executor.submit(reportTable::getData);
+            parsingStarted.await();
+            Future<List<Object>> second = executor.submit(reportTable::getData);
+            parsingAllowed.countDown();
+
+            assertSame(first.get(), second.get());
+            verify(reportTable).parseTable();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
     static class InitializableReportTableImpl extends InitializableReportTable<Object> {
 
@@ -75,5 +263,10 @@ class InitializableReportTableTest {
         public void initializeIfNeed() {
             super.initializeIfNeed();
         }
+
+        @Override
+        public boolean isDataSoftReferenced() {
+            return super.isDataSoftReferenced();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.assertTablesEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.createSnapshot;
+
+class JacksonReportTablesCodecTest {
+
+    JacksonReportTablesCodec codec = new JacksonReportTablesCodec();
+
+    @Test
+    void writeAndRead() throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        codec.write(tables, out);
+        ReportTables restored = codec.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertTablesEquals(tables, restored);
+        assertEquals(
+                List.of(SecurityTransaction.class, DerivativeTransaction.class, ForeignExchangeTransaction.class),
+                restored.getTransactionTable().getData().stream().map(Object::getClass).toList());
+    }
+
+    @Test
+    void write_subclass_exception() {
+        AbstractTransaction transaction = new SecurityTransaction(SecurityTransaction.builder()
+                .id(1)
+                .tradeId("1")
+                .account("1")
+                .timestamp(Instant.now())) {
+        };
+        ReportTables tables = createTables(transaction);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.write(tables, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void write_unsupportedTransaction_exception() {
+        AbstractTransaction transaction = mock(AbstractTransaction.class);  // not a supported transaction class
+        ReportTables tables = createTables(transaction);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.write(tables, new ByteArrayOutputStream()));
+    }
+
+    private static ReportTables createTables(AbstractTransaction transaction) {
+        return ReportTablesSnapshot.builder()
+                .accountProperties(List.of())
+                .accountCash(List.of())
+                .cashFlows(List.of())
+                .securities(List.of())
+                .transactions(List.of(transaction))
+                .securityEventCashFlows(List.of())
+                .securityQuotes(List.of())
+                .foreignExchangeRates(List.of())
+                .build();
+    }
+
+    @Test
+    void read_corrupted_exception() {
+        byte[] bytes = "{\"version\": 1, \"transactions\": [".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> codec.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void read_unsupportedVersion_exception() {
+        byte[] bytes = "{\"version\": 0}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> codec.read(new ByteArrayInputStream(bytes)));
+    }
+}
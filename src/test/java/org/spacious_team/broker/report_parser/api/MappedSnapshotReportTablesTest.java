@@ -0,0 +1,115 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.assertTablesEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.createSnapshot;
+
+class MappedSnapshotReportTablesTest {
+
+    @Test
+    void open(@TempDir Path directory) throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+        Path file = directory.resolve("snapshot.bin");
+        new MappedReportTablesCodec().write(tables, file);
+
+        MappedSnapshotReportTables restored = MappedSnapshotReportTables.open(file);
+
+        assertTablesEquals(tables, restored);
+        assertSame(restored.getReport(), restored.getTransactionTable().getReport());
+    }
+
+    @Test
+    void open_notExists() {
+        assertThrows(BrokerReportParseException.class, () -> MappedSnapshotReportTables.open(Path.of("not-exists")));
+    }
+
+    @Test
+    void getData_rowDecodedOnAccess() throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+        byte[] bytes = write(tables);
+        List<AbstractTransaction> transactions = tables.getTransactionTable().getData();
+        int lastRowOffset = getTableOffset(bytes, 4) +
+                (transactions.size() - 1) * MappedSnapshotFormat.TRANSACTION.getRowSize();
+        bytes[lastRowOffset + Integer.BYTES - 1] = 0x7F;  // unsupported transaction type of last row
+
+        MappedSnapshotReportTables restored = MappedSnapshotReportTables.of(ByteBuffer.wrap(bytes));
+        List<AbstractTransaction> data = restored.getTransactionTable().getData();
+
+        assertEquals(transactions.size(), data.size());
+        assertInstanceOf(RandomAccess.class, data);
+        assertEquals(transactions.get(1), data.get(1));
+        assertEquals(transactions.get(0), data.get(0));
+        assertThrows(IllegalArgumentException.class, () -> data.get(transactions.size() - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> data.get(transactions.size()));
+    }
+
+    @Test
+    void getData_notCopied() throws IOException {
+        MappedSnapshotReportTables restored = MappedSnapshotReportTables.of(ByteBuffer.wrap(write(createSnapshot())));
+        List<AbstractTransaction> data = restored.getTransactionTable().getData();
+
+        restored.release();
+
+        assertSame(data, restored.getTransactionTable().getData());
+        assertSame(data, restored.getTransactionTable().getDataAsync(Runnable::run).toCompletableFuture().join());
+        assertThrows(UnsupportedOperationException.class, () -> data.remove(0));
+    }
+
+    @Test
+    void of_tableOutOfBounds_exception() throws IOException {
+        byte[] bytes = write(createSnapshot());
+        ByteBuffer.wrap(bytes).putInt(getTableEntryOffset(6) + Long.BYTES, Integer.MAX_VALUE / 64);
+
+        assertThrows(IOException.class, () -> MappedSnapshotReportTables.of(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void of_unexpectedRowSize_exception() throws IOException {
+        byte[] bytes = write(createSnapshot());
+        ByteBuffer.wrap(bytes).putInt(getTableEntryOffset(0) + Long.BYTES + Integer.BYTES, 1);
+
+        assertThrows(IOException.class, () -> MappedSnapshotReportTables.of(ByteBuffer.wrap(bytes)));
+    }
+
+    private static int getTableEntryOffset(int table) {
+        return MappedSnapshotFormat.MAGIC.length + 2 * Integer.BYTES + table * MappedSnapshotFormat.TABLE_ENTRY_SIZE;
+    }
+
+    private static int getTableOffset(byte[] snapshot, int table) {
+        return Math.toIntExact(ByteBuffer.wrap(snapshot).getLong(getTableEntryOffset(table)));
+    }
+
+    private static byte[] write(ReportTables tables) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MappedReportTablesCodec().write(tables, out);
+        return out.toByteArray();
+    }
+}
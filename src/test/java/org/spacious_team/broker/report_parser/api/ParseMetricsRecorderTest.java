@@ -0,0 +1,147 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class ParseMetricsRecorderTest {
+
+    @Mock
+    BrokerReport brokerReport;
+    @Mock
+    ReportTable<Object> table;
+    @Mock
+    ReportTable<Object> otherTable;
+    List<ReportTableMetrics> metrics = new ArrayList<>();
+
+    @BeforeEach
+    void before() {
+        lenient().when(table.getReport()).thenReturn(brokerReport);
+        lenient().when(otherTable.getReport()).thenReturn(brokerReport);
+        ReportTableMetricsListener.setGlobal(metrics::add);
+    }
+
+    @AfterEach
+    void after() {
+        ReportTableMetricsListener.setGlobal(ReportTableMetricsListener.NO_OP);
+    }
+
+    @Test
+    void record() {
+        List<Object> rows = List.of(1, 2);
+
+        List<Object> result = ParseMetricsRecorder.record(table, () -> {
+            ParseMetricsRecorder recorder = ParseMetricsRecorder.current(table);
+            assertNotNull(recorder);
+            assertNull(ParseMetricsRecorder.current(otherTable));
+            recorder.countDropped(List.of());
+            recorder.countDropped(List.of(1));
+            recorder.countMerged(List.of(1));
+            recorder.countMerged(List.of());
+            recorder.countMerged(List.of(1, 2));
+            return rows;
+        });
+
+        assertSame(rows, result);
+        assertNull(ParseMetricsRecorder.current(table));
+        assertEquals(1, metrics.size());
+        ReportTableMetrics tableMetrics = metrics.get(0);
+        assertEquals(table.getClass(), tableMetrics.getTableType());
+        assertEquals(brokerReport.getClass(), tableMetrics.getReportType());
+        assertTrue(tableMetrics.isSuccessful());
+        assertEquals(2, tableMetrics.getRowCount());
+        assertEquals(3, tableMetrics.getMergedRowCount());
+        assertEquals(1, tableMetrics.getDroppedRowCount());
+        assertFalse(tableMetrics.getDuration().isNegative());
+    }
+
+    @Test
+    void record_noOpListener() {
+        ReportTableMetricsListener.setGlobal(ReportTableMetricsListener.NO_OP);
+
+        ParseMetricsRecorder.record(table, () -> {
+            assertNull(ParseMetricsRecorder.current(table));
+            return List.of();
+        });
+    }
+
+    @Test
+    void record_failed() {
+        assertThrows(IllegalStateException.class, () -> ParseMetricsRecorder.record(table, () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertNull(ParseMetricsRecorder.current(table));
+        assertEquals(1, metrics.size());
+        assertFalse(metrics.get(0).isSuccessful());
+        assertEquals(0, metrics.get(0).getRowCount());
+    }
+
+    @Test
+    void record_nested() {
+        ParseMetricsRecorder.record(table, () -> {
+            ParseMetricsRecorder.record(otherTable, () -> {
+                assertNotNull(ParseMetricsRecorder.current(otherTable));
+                assertNull(ParseMetricsRecorder.current(table));
+                return List.of();
+            });
+            assertNotNull(ParseMetricsRecorder.current(table));
+            return List.of();
+        });
+
+        assertEquals(2, metrics.size());
+        assertNull(ParseMetricsRecorder.current(table));
+    }
+
+    @Test
+    void record_listenerException_ignored() {
+        ReportTableMetricsListener.setGlobal(m -> {
+            throw new IllegalStateException();
+        });
+        List<Object> rows = List.of(1);
+
+        assertSame(rows, ParseMetricsRecorder.record(table, () -> rows));
+    }
+
+    @Test
+    void metricsDuration() {
+        ParseMetricsRecorder.record(table, () -> {
+            long start = System.nanoTime();
+            while (System.nanoTime() - start < 1_000_000) {
+                Thread.onSpinWait();
+            }
+            return List.of();
+        });
+
+        assertTrue(metrics.get(0).getDuration().compareTo(Duration.ofMillis(1)) >= 0);
+    }
+}
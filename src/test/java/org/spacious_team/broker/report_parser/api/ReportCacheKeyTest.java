@@ -0,0 +1,71 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportCacheKeyTest {
+
+    @Test
+    void of() {
+        ReportCacheKey key = ReportCacheKey.of(new ByteArrayInputStream(new byte[]{1, 2, 3}), "1.0");
+
+        assertEquals(key, ReportCacheKey.of(new ByteArrayInputStream(new byte[]{1, 2, 3}), "1.0"));
+        assertNotEquals(key, ReportCacheKey.of(new ByteArrayInputStream(new byte[]{1, 2, 4}), "1.0"));
+        assertNotEquals(key, ReportCacheKey.of(new ByteArrayInputStream(new byte[]{1, 2, 3}), "1.1"));
+        assertEquals(64, key.getId().length());
+        assertTrue(key.getId().matches("[0-9a-f]+"));
+    }
+
+    @Test
+    void of_versionSeparatedFromContent() {
+        ReportCacheKey key = ReportCacheKey.of(new ByteArrayInputStream(new byte[]{'2'}), "1.");
+        assertNotEquals(key, ReportCacheKey.of(new ByteArrayInputStream(new byte[0]), "1.2"));
+    }
+
+    @Test
+    void of_path(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("report.xml"), new byte[]{1, 2, 3});
+
+        ReportCacheKey key = ReportCacheKey.of(file, "1.0");
+
+        assertEquals(ReportCacheKey.of(new ByteArrayInputStream(new byte[]{1, 2, 3}), "1.0"), key);
+    }
+
+    @Test
+    void of_readException() {
+        InputStream is = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException();
+            }
+        };
+        assertThrows(BrokerReportParseException.class, () -> ReportCacheKey.of(is, "1.0"));
+        assertThrows(BrokerReportParseException.class, () -> ReportCacheKey.of(Path.of("not-exists"), "1.0"));
+    }
+}
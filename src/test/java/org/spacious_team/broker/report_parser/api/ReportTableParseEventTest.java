@@ -0,0 +1,108 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportTableParseEventTest {
+
+    @Mock
+    BrokerReport brokerReport;
+    @TempDir
+    Path directory;
+
+    @Test
+    void record() throws IOException {
+        ReportTable<Object> table = mock();
+        when(table.getReport()).thenReturn(brokerReport);
+        List<Object> rows = List.of(1, 2, 3);
+
+        List<RecordedEvent> events = recordEvents(() -> assertSame(rows, ReportTableParseEvent.record(table, () -> rows)));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(table.getClass().getName(), event.getClass("table").getName());
+        assertEquals(brokerReport.getClass().getName(), event.getClass("report").getName());
+        assertTrue(event.getBoolean("success"));
+        assertEquals(3, event.getInt("rowCount"));
+        assertEquals(Thread.currentThread().getId(), event.getThread().getJavaThreadId());
+    }
+
+    @Test
+    void record_failed() throws IOException {
+        ReportTable<Object> table = mock();
+        when(table.getReport()).thenReturn(brokerReport);
+
+        List<RecordedEvent> events = recordEvents(() -> assertThrows(IllegalStateException.class,
+                () -> ReportTableParseEvent.record(table, () -> {
+                    throw new IllegalStateException();
+                })));
+
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).getBoolean("success"));
+        assertEquals(0, events.get(0).getInt("rowCount"));
+    }
+
+    @Test
+    void record_recordingOff() {
+        ReportTable<Object> table = mock();
+        List<Object> rows = List.of(1);
+
+        assertSame(rows, ReportTableParseEvent.record(table, () -> rows));
+        verifyNoInteractions(table);
+    }
+
+    @Test
+    void initializableReportTable() throws IOException {
+        InitializableReportTableTest.InitializableReportTableImpl table =
+                new InitializableReportTableTest.InitializableReportTableImpl(brokerReport);
+
+        List<RecordedEvent> events = recordEvents(table::getData);
+
+        assertEquals(1, events.size());
+        assertEquals(table.getClass().getName(), events.get(0).getClass("table").getName());
+    }
+
+    private List<RecordedEvent> recordEvents(Runnable action) throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ReportTableParseEvent.NAME).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReportTableSerializerTest {
+
+    JsonMapper mapper = JsonMapper.builder()
+            .addModule(new ReportTablesModule())
+            .build();
+
+    @Test
+    void serialize() {
+        List<Security> securities = List.of(
+                Security.builder().type(SecurityType.STOCK).isin("NL0009805522").ticker("YNDX").build(),
+                Security.builder().type(SecurityType.DERIVATIVE).ticker("Si-12.21").build());
+        AtomicBoolean isStreamClosed = new AtomicBoolean();
+        ReportTable<Security> table = mock();
+        when(table.stream()).thenReturn(securities.stream().onClose(() -> isStreamClosed.set(true)));
+
+        String json = mapper.writeValueAsString(table);
+
+        assertEquals(JsonMapper.shared().writeValueAsString(securities), json);
+        assertTrue(isStreamClosed.get());
+        verify(table, never()).getData();
+    }
+
+    @Test
+    void serialize_transactions() {
+        ReportTable<AbstractTransaction> table = mock();
+        when(table.stream()).thenReturn(Stream.of(ForeignExchangeTransaction.builder()
+                .id(1)
+                .tradeId("1T")
+                .account("10200I")
+                .security(2)
+                .timestamp(Instant.EPOCH)
+                .count(10)
+                .valueCurrency("RUB")
+                .build()));
+
+        String json = mapper.writeValueAsString(table);
+
+        assertEquals("[{\"account\":\"10200I\",\"count\":10,\"id\":1,\"security\":2," +
+                "\"timestamp\":\"1970-01-01T00:00:00Z\",\"trade-id\":\"1T\",\"type\":\"foreign-exchange\"," +
+                "\"value-currency\":\"RUB\"}]", json);
+    }
+
+    @Test
+    void serialize_empty() {
+        ReportTable<Security> table = mock();
+        when(table.stream()).thenReturn(Stream.empty());
+
+        assertEquals("[]", mapper.writeValueAsString(table));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReportTableTest {
+
+    @Test
+    void getDataAsync() {
+        ReportTable<Object> table = mock(ReportTable.class);
+        List<Object> data = List.of(1, 2);
+        when(table.getData()).thenReturn(data);
+        when(table.getDataAsync(any())).thenCallRealMethod();
+        List<Runnable> tasks = new ArrayList<>();
+
+        CompletableFuture<List<Object>> future = table.getDataAsync(tasks::add).toCompletableFuture();
+
+        assertFalse(future.isDone());
+        tasks.forEach(Runnable::run);
+        assertSame(data, future.join());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.assertTablesEquals;
+import static org.spacious_team.broker.report_parser.api.ReportTablesSnapshotTest.createSnapshot;
+
+class ReportTablesSerializerTest {
+
+    JsonMapper mapper = JsonMapper.builder()
+            .addModule(new ReportTablesModule())
+            .build();
+
+    @Test
+    void serialize() throws IOException {
+        ReportTablesSnapshot tables = createSnapshot();
+
+        String json = mapper.writeValueAsString(tables);
+        ReportTables restored = new JacksonReportTablesCodec().read(new ByteArrayInputStream(json.getBytes(UTF_8)));
+
+        assertTablesEquals(tables, restored);
+    }
+
+    @Test
+    void serialize_propertyNames() {
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(createSnapshot()));
+
+        assertEquals(
+                List.of("version", "account-properties", "account-cash", "cash-flows", "securities", "transactions",
+                        "security-event-cash-flows", "security-quotes", "foreign-exchange-rates"),
+                List.copyOf(json.propertyNames()));
+        assertEquals(JacksonReportTablesCodec.VERSION, json.get("version").asInt());
+    }
+}
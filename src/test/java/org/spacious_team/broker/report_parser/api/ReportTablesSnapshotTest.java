@@ -0,0 +1,167 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.broker.pojo.AccountCash;
+import org.spacious_team.broker.pojo.AccountProperty;
+import org.spacious_team.broker.pojo.AccountPropertyType;
+import org.spacious_team.broker.pojo.EventCashFlow;
+import org.spacious_team.broker.pojo.ForeignExchangeRate;
+import org.spacious_team.broker.pojo.Security;
+import org.spacious_team.broker.pojo.SecurityEventCashFlow;
+import org.spacious_team.broker.pojo.SecurityQuote;
+import org.spacious_team.broker.pojo.SecurityType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+import static org.spacious_team.broker.pojo.CashFlowType.CASH;
+import static org.spacious_team.broker.pojo.CashFlowType.DIVIDEND;
+
+class ReportTablesSnapshotTest {
+
+    @Test
+    void of() {
+        ReportTablesSnapshot expected = createSnapshot();
+
+        ReportTablesSnapshot snapshot = ReportTablesSnapshot.of(mock(ReportTables.class, delegatesTo(expected)));
+
+        assertTablesEquals(expected, snapshot);
+    }
+
+    @Test
+    void of_snapshot() {
+        ReportTablesSnapshot snapshot = createSnapshot();
+        assertSame(snapshot, ReportTablesSnapshot.of(snapshot));
+    }
+
+    @Test
+    void getReport() {
+        ReportTablesSnapshot snapshot = createSnapshot();
+        BrokerReport report = snapshot.getReport();
+
+        assertSame(report, snapshot.getTransactionTable().getReport());
+        assertThrows(UnsupportedOperationException.class, report::getReportPage);
+        assertDoesNotThrow(report::close);
+    }
+
+    static ReportTablesSnapshot createSnapshot() {
+        Instant timestamp = Instant.parse("2026-01-23T12:00:00Z");
+        return ReportTablesSnapshot.builder()
+                .accountProperties(List.of(AccountProperty.builder()
+                        .account("10200I")
+                        .timestamp(timestamp)
+                        .property(AccountPropertyType.TOTAL_ASSETS_RUB)
+                        .value("1000.50")
+                        .build()))
+                .accountCash(List.of(AccountCash.builder()
+                        .account("10200I")
+                        .timestamp(timestamp)
+                        .market("stock")
+                        .value(new BigDecimal("100.10"))
+                        .currency("RUB")
+                        .build()))
+                .cashFlows(List.of(EventCashFlow.builder()
+                        .account("10200I")
+                        .timestamp(timestamp)
+                        .eventType(CASH)
+                        .value(new BigDecimal("-10.5"))
+                        .currency("USD")
+                        .description("withdrawal")
+                        .build()))
+                .securities(List.of(
+                        Security.builder().type(SecurityType.STOCK).isin("NL0009805522").ticker("YNDX").build(),
+                        Security.builder().type(SecurityType.DERIVATIVE).ticker("Si-12.21").build()))
+                .transactions(List.of(
+                        SecurityTransaction.builder()
+                                .id(1)
+                                .tradeId("1T")
+                                .account("10200I")
+                                .security(1)
+                                .timestamp(timestamp)
+                                .count(10)
+                                .value(new BigDecimal("-1000.5"))
+                                .fee(new BigDecimal("-1.25"))
+                                .valueCurrency("RUB")
+                                .feeCurrency("RUB")
+                                .accruedInterest(new BigDecimal("-2.1"))
+                                .build(),
+                        DerivativeTransaction.builder()
+                                .id(2)
+                                .tradeId("2T")
+                                .account("10200I")
+                                .security(2)
+                                .timestamp(timestamp)
+                                .count(-1)
+                                .value(new BigDecimal("-10"))
+                                .valueCurrency("RUB")
+                                .valueInPoints(new BigDecimal("7200"))
+                                .build(),
+                        ForeignExchangeTransaction.builder()
+                                .id(3)
+                                .tradeId("3T")
+                                .account("10200I")
+                                .security(3)
+                                .timestamp(timestamp)
+                                .count(100)
+                                .value(new BigDecimal("-7500.00"))
+                                .valueCurrency("RUB")
+                                .build()))
+                .securityEventCashFlows(List.of(SecurityEventCashFlow.builder()
+                        .account("10200I")
+                        .timestamp(timestamp)
+                        .security(1)
+                        .count(10)
+                        .eventType(DIVIDEND)
+                        .value(new BigDecimal("15.3"))
+                        .currency("RUB")
+                        .build()))
+                .securityQuotes(List.of(SecurityQuote.builder()
+                        .security(1)
+                        .timestamp(timestamp)
+                        .quote(new BigDecimal("101.5"))
+                        .price(new BigDecimal("1015"))
+                        .accruedInterest(new BigDecimal("2.1"))
+                        .currency("RUB")
+                        .build()))
+                .foreignExchangeRates(List.of(ForeignExchangeRate.builder()
+                        .date(LocalDate.of(2026, 1, 23))
+                        .currencyPair("USDRUB")
+                        .rate(new BigDecimal("75.1234"))
+                        .build()))
+                .build();
+    }
+
+    static void assertTablesEquals(ReportTables expected, ReportTables actual) {
+        assertEquals(expected.getAccountPropertyTable().getData(), actual.getAccountPropertyTable().getData());
+        assertEquals(expected.getAccountCashTable().getData(), actual.getAccountCashTable().getData());
+        assertEquals(expected.getCashFlowTable().getData(), actual.getCashFlowTable().getData());
+        assertEquals(expected.getSecuritiesTable().getData(), actual.getSecuritiesTable().getData());
+        assertEquals(expected.getTransactionTable().getData(), actual.getTransactionTable().getData());
+        assertEquals(expected.getSecurityEventCashFlowTable().getData(), actual.getSecurityEventCashFlowTable().getData());
+        assertEquals(expected.getSecurityQuoteTable().getData(), actual.getSecurityQuoteTable().getData());
+        assertEquals(expected.getForeignExchangeRateTable().getData(), actual.getForeignExchangeRateTable().getData());
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class ReportTablesTest {
+
+    @Test
+    void release() {
+        ReportTables tables = mock(ReportTables.class);
+        ReportTable<?> table = mock(ReportTable.class);
+        doReturn(table).when(tables).getAccountPropertyTable();
+        doReturn(table).when(tables).getAccountCashTable();
+        doReturn(table).when(tables).getCashFlowTable();
+        doReturn(table).when(tables).getSecuritiesTable();
+        doReturn(table).when(tables).getTransactionTable();
+        doReturn(table).when(tables).getSecurityEventCashFlowTable();
+        doReturn(table).when(tables).getSecurityQuoteTable();
+        doReturn(table).when(tables).getForeignExchangeRateTable();
+        doCallRealMethod().when(tables).release();
+
+        tables.release();
+
+        verify(table, times(8)).release();
+    }
+}
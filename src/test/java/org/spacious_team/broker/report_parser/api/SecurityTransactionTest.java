@@ -21,16 +21,21 @@ package org.spacious_team.broker.report_parser.api;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Test;
+import org.spacious_team.broker.pojo.CashFlowType;
 import org.spacious_team.broker.pojo.Transaction;
 import org.spacious_team.broker.pojo.TransactionCashFlow;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
+import static nl.jqno.equalsverifier.Warning.BIGDECIMAL_EQUALITY;
 import static nl.jqno.equalsverifier.Warning.STRICT_INHERITANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.spacious_team.broker.pojo.CashFlowType.*;
 
 class SecurityTransactionTest {
@@ -133,6 +138,60 @@ class SecurityTransactionTest {
                 getAccruedInterestCashFlow(tr));
     }
 
+    @Test
+    void forEachCashFlow_getTransactionCashFlowsOverridden() {
+        TransactionCashFlow extraCashFlow = TransactionCashFlow.builder()
+                .transactionId(tr.getId())
+                .eventType(FEE)
+                .value(BigDecimal.valueOf(5))
+                .currency("EUR")
+                .build();
+        SecurityTransaction transaction = new SecurityTransaction(tr.toBuilder()) {
+            @Override
+            public List<TransactionCashFlow> getTransactionCashFlows() {
+                List<TransactionCashFlow> flows = super.getTransactionCashFlows();
+                flows.add(extraCashFlow);
+                return flows;
+            }
+        };
+
+        assertEquals(
+                List.of(getValueCashFlow(tr), getAccruedInterestCashFlow(tr), getFeeCashFlow(tr), extraCashFlow),
+                getSinkCashFlows(transaction));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void getTransactionCashFlows_deprecatedCashFlowGettersOverridden() {
+        TransactionCashFlow overriddenFee = TransactionCashFlow.builder()
+                .transactionId(tr.getId())
+                .eventType(FEE)
+                .value(BigDecimal.valueOf(5))
+                .currency("EUR")
+                .build();
+        SecurityTransaction transaction = new SecurityTransaction(tr.toBuilder()) {
+            @Override
+            protected Optional<TransactionCashFlow> getValueCashFlow(CashFlowType type) {
+                return super.getValueCashFlow(type);
+            }
+
+            @Override
+            protected Optional<TransactionCashFlow> getFeeCashFlow() {
+                return Optional.of(overriddenFee);
+            }
+        };
+
+        expectedCashFlows(transaction, getValueCashFlow(tr), getAccruedInterestCashFlow(tr), overriddenFee);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedCashFlowGetters() {
+        assertEquals(Optional.of(getValueCashFlow(tr)), tr.getValueCashFlow(PRICE));
+        assertEquals(Optional.of(getFeeCashFlow(tr)), tr.getFeeCashFlow());
+        assertEquals(Optional.empty(), tr.toBuilder().fee(null).build().getFeeCashFlow());
+    }
+
     @NonNull
     private TransactionCashFlow getAccruedInterestCashFlow(SecurityTransaction transaction) {
         return TransactionCashFlow.builder()
@@ -167,6 +226,20 @@ class SecurityTransactionTest {
         assertEquals(
                 List.of(flows),
                 transaction.getTransactionCashFlows());
+        assertEquals(
+                List.of(flows),
+                getSinkCashFlows(transaction));
+    }
+
+    private List<TransactionCashFlow> getSinkCashFlows(SecurityTransaction transaction) {
+        List<TransactionCashFlow> flows = new ArrayList<>();
+        transaction.forEachCashFlow((transactionId, type, value, currency) -> flows.add(TransactionCashFlow.builder()
+                .transactionId(transactionId)
+                .eventType(type)
+                .value(value)
+                .currency(currency)
+                .build()));
+        return flows;
     }
 
     @Test
@@ -174,10 +247,25 @@ class SecurityTransactionTest {
         EqualsVerifier
                 .forClass(SecurityTransaction.class)
                 .suppress(STRICT_INHERITANCE) // no subclass for test
+                .withIgnoredFields("value", "fee", "accruedInterest") // stripped values are compared
+                .suppress(BIGDECIMAL_EQUALITY) // values are stripped by constructor
                 .withLombokCachedHashCode(SecurityTransaction.builder().build())
                 .verify();
     }
 
+    @Test
+    void testEquals_valueScaleIgnored() {
+        SecurityTransaction other = tr.toBuilder()
+                .value(new BigDecimal("10.00"))
+                .accruedInterest(new BigDecimal("2.0"))
+                .fee(new BigDecimal("1.000"))
+                .build();
+
+        assertEquals(tr, other);
+        assertEquals(tr.hashCode(), other.hashCode());
+        assertNotEquals(tr, other.toBuilder().fee(BigDecimal.TEN).build());
+    }
+
     @Test
     void testToString() {
         assertEquals("SecurityTransaction(super=AbstractTransaction(id=1, tradeId=t123, account=a123, " +
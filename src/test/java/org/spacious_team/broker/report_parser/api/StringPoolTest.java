@@ -0,0 +1,73 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+
+class StringPoolTest {
+
+    @Test
+    void intern() {
+        StringPool pool = new StringPool();
+        String value = new String("RUB");
+        String copy = new String("RUB");
+
+        assertSame(value, pool.intern(value));
+        assertSame(value, pool.intern(copy));
+        assertNull(pool.intern(null));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void intern_poolIsFull() {
+        StringPool pool = new StringPool(2);
+        pool.intern("a");
+        pool.intern("b");
+        String value = new String("c");
+
+        assertSame(value, pool.intern(value));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void constructor_illegalMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(0));
+    }
+
+    @Test
+    void global() {
+        assertSame(StringPool.global(), StringPool.global());
+    }
+
+    @Test
+    void brokerReportIntern() {
+        BrokerReport report = mock(BrokerReport.class, CALLS_REAL_METHODS);
+        String value = new String("account-" + System.nanoTime());
+
+        assertSame(value, report.intern(value));
+        assertSame(value, report.intern(new String(value)));
+        assertSame(value, StringPool.global().intern(new String(value)));
+    }
+}
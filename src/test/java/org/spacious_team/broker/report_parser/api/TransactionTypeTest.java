@@ -0,0 +1,106 @@
+/*
+ * Broker Report Parser API
+ * Copyright (C) 2026  Spacious Team <spacious-team@ya.ru>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package org.spacious_team.broker.report_parser.api;
+
+import org.junit.jupiter.api.Test;
+import org.spacious_team.broker.report_parser.api.AbstractTransaction.AbstractTransactionBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionTypeTest {
+
+    SecurityTransaction securityTransaction = fill(SecurityTransaction.builder())
+            .accruedInterest(BigDecimal.ONE)
+            .build();
+    DerivativeTransaction derivativeTransaction = fill(DerivativeTransaction.builder())
+            .valueInPoints(BigDecimal.TEN)
+            .build();
+    ForeignExchangeTransaction foreignExchangeTransaction = fill(ForeignExchangeTransaction.builder())
+            .build();
+
+    @Test
+    void of() {
+        assertSame(TransactionType.SECURITY, TransactionType.of(securityTransaction));
+        assertSame(TransactionType.DERIVATIVE, TransactionType.of(derivativeTransaction));
+        assertSame(TransactionType.FOREIGN_EXCHANGE, TransactionType.of(foreignExchangeTransaction));
+    }
+
+    @Test
+    void of_subclass_exception() {
+        AbstractTransaction transaction = new SecurityTransaction(fill(SecurityTransaction.builder())) {
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.of(transaction));
+    }
+
+    @Test
+    void ofId() {
+        for (TransactionType type : TransactionType.values()) {
+            assertSame(type, TransactionType.ofId(type.getId()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.ofId(-1));
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.ofId(3));
+    }
+
+    @Test
+    void ofJsonName() {
+        for (TransactionType type : TransactionType.values()) {
+            assertSame(type, TransactionType.ofJsonName(type.getJsonName()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.ofJsonName("bond"));
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.ofJsonName(null));
+    }
+
+    @Test
+    void newBuilder() {
+        for (AbstractTransaction expected : new AbstractTransaction[]{
+                securityTransaction, derivativeTransaction, foreignExchangeTransaction}) {
+            TransactionType type = TransactionType.of(expected);
+            AbstractTransactionBuilder<?, ?> builder = fill(type.newBuilder());
+            type.setTypeSpecificAmount(builder, type.getTypeSpecificAmount(expected));
+
+            AbstractTransaction transaction = builder.build();
+
+            assertEquals(expected, transaction);
+            assertEquals(type.getTypeSpecificAmount(expected), type.getTypeSpecificAmount(transaction));
+        }
+    }
+
+    @Test
+    void getTypeSpecificAmount() {
+        assertEquals(BigDecimal.ONE, TransactionType.SECURITY.getTypeSpecificAmount(securityTransaction));
+        assertEquals(BigDecimal.TEN, TransactionType.DERIVATIVE.getTypeSpecificAmount(derivativeTransaction));
+        assertNull(TransactionType.FOREIGN_EXCHANGE.getTypeSpecificAmount(foreignExchangeTransaction));
+    }
+
+    private static <B extends AbstractTransactionBuilder<?, ?>> B fill(B builder) {
+        builder.id(1)
+                .tradeId("1")
+                .account("1")
+                .security(2)
+                .timestamp(Instant.ofEpochSecond(1_000))
+                .count(3)
+                .value(BigDecimal.valueOf(-100))
+                .valueCurrency("RUB");
+        return builder;
+    }
+}
@@ -24,8 +24,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -75,10 +83,180 @@ class WrappingReportTableTest {
         assertEquals(col2, data.subList(2, 4));
         verify(reportTable1).getData();
         verify(reportTable2).getData();
+        verify(reportTable2, never()).getDataAsync(any());  // parsed sequentially by default
         verify(reportTable1, times(2)).getReport();
         verify(reportTable2).getReport();
     }
 
+    @Test
+    void ofData_getDataAsync() {
+        Executor executor = mock(Executor.class);
+        ReportTable<Object> reportTable = WrappingReportTable.of(brokerReport, List.of(1), List.of(2));
+
+        List<Object> data = reportTable.getDataAsync(executor).toCompletableFuture().getNow(null);
+
+        assertEquals(List.of(1, 2), data);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void ofReportTables_getDataAsync() {
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        when(reportTable1.getData()).thenReturn(List.of(1));
+        when(reportTable2.getData()).thenReturn(List.of(2));
+        when(reportTable1.getDataAsync(any())).thenCallRealMethod();
+        when(reportTable2.getDataAsync(any())).thenCallRealMethod();
+        List<Runnable> tasks = new ArrayList<>();
+        ReportTable<Object> reportTable = WrappingReportTable.of(reportTable1, reportTable2);
+
+        CompletableFuture<List<Object>> future = reportTable.getDataAsync(tasks::add).toCompletableFuture();
+        assertFalse(future.isDone());
+        for (int i = 0; i < tasks.size(); i++) {  // wrapping task is added after wrapped tables are parsed
+            tasks.get(i).run();
+        }
+
+        assertEquals(List.of(1, 2), future.join());
+        assertSame(future.join(), reportTable.getDataAsync(tasks::add).toCompletableFuture().getNow(null));
+        verify(reportTable1).getData();
+        verify(reportTable2).getData();
+    }
+
+    @Test
+    void ofReportTables_parsedConcurrently_orderPreserved() {
+        CountDownLatch lastTableParsed = new CountDownLatch(1);
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        ReportTable<Object> reportTable3 = mock(ReportTable.class);
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        when(reportTable3.getReport()).thenReturn(brokerReport);
+        when(reportTable1.getData()).thenReturn(List.of(1));
+        when(reportTable2.getData()).thenAnswer(invocation -> {
+            lastTableParsed.await();
+            return List.of(2);
+        });
+        when(reportTable3.getData()).thenAnswer(invocation -> {
+            lastTableParsed.countDown();
+            return List.of(3);
+        });
+        when(reportTable2.getDataAsync(any())).thenCallRealMethod();
+        when(reportTable3.getDataAsync(any())).thenCallRealMethod();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ReportTable<Object> reportTable = WrappingReportTable.of(executor, reportTable1, reportTable2, reportTable3);
+
+            List<Object> data = assertTimeoutPreemptively(Duration.ofSeconds(10), reportTable::getData);
+
+            assertEquals(List.of(1, 2, 3), data);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void ofReportTables_parsedConcurrently_parseException_otherTablesCancelled() {
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        CompletableFuture<List<Object>> reportTable2Data = new CompletableFuture<>();
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        when(reportTable1.getData()).thenThrow(BrokerReportParseException.class);
+        when(reportTable2.getDataAsync(any())).thenReturn(reportTable2Data);
+        ReportTable<Object> reportTable = WrappingReportTable.of(Runnable::run, reportTable1, reportTable2);
+
+        assertThrows(BrokerReportParseException.class, reportTable::getData);
+        assertTrue(reportTable2Data.isCancelled());
+    }
+
+    @Test
+    void ofReportTables_getDataAsync_parseException_otherTablesCancelled() {
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        BrokerReportParseException exception = new BrokerReportParseException("test");
+        CompletableFuture<List<Object>> reportTable2Data = new CompletableFuture<>();
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        when(reportTable1.getDataAsync(any())).thenReturn(CompletableFuture.failedFuture(exception));
+        when(reportTable2.getDataAsync(any())).thenReturn(reportTable2Data);
+        ReportTable<Object> reportTable = WrappingReportTable.of(reportTable1, reportTable2);
+
+        CompletableFuture<List<Object>> future = reportTable.getDataAsync(Runnable::run).toCompletableFuture();
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertSame(exception, e.getCause());
+        assertTrue(reportTable2Data.isCancelled());
+    }
+
+    @Test
+    void ofReportTables_parseException() {
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getData()).thenThrow(BrokerReportParseException.class);
+        ReportTable<Object> reportTable = WrappingReportTable.of(reportTable1, reportTable2);
+
+        assertThrows(BrokerReportParseException.class, reportTable::getData);
+    }
+
+    @Test
+    void release() {
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        ReportTable<Object> reportTable = WrappingReportTable.of(reportTable1, reportTable2);
+
+        reportTable.release();
+
+        verify(reportTable1).release();
+        verify(reportTable2).release();
+    }
+
+    @Test
+    void release_parsed_tablesErased() {
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        when(reportTable1.getData()).thenReturn(List.of(1));
+        when(reportTable2.getData()).thenReturn(List.of(2));
+        ReportTable<Object> reportTable = WrappingReportTable.of(reportTable1, reportTable2);
+
+        List<Object> data = reportTable.getData();
+        reportTable.release();
+
+        verify(reportTable1, never()).release();
+        verify(reportTable2, never()).release();
+        assertSame(data, reportTable.getData());
+    }
+
+    @Test
+    void release_duringParsing_rowsNotStored() {
+        ReportTable<Object> reportTable1 = mock(ReportTable.class);
+        ReportTable<Object> reportTable2 = mock(ReportTable.class);
+        when(reportTable1.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getReport()).thenReturn(brokerReport);
+        when(reportTable2.getData()).thenReturn(List.of(2));
+        ReportTable<Object> reportTable = WrappingReportTable.of(reportTable1, reportTable2);
+        when(reportTable1.getData()).then(invocation -> {
+            reportTable.release();  // released concurrently, before parsing is completed
+            return List.of(1);
+        }).thenReturn(List.of(1));
+
+        List<Object> data = reportTable.getData();
+
+        verify(reportTable1).release();
+        verify(reportTable2).release();
+        assertEquals(List.of(1, 2), data);
+        assertNotSame(data, reportTable.getData());
+        assertSame(reportTable.getData(), reportTable.getData());
+        verify(reportTable1, times(2)).getData();
+    }
+
     @Test
     void ofReportTables_noTables_exception() {
         assertThrows(IllegalArgumentException.class, WrappingReportTable::of);